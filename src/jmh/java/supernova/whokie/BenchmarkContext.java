@@ -0,0 +1,107 @@
+package supernova.whokie;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import supernova.whokie.friend.Friend;
+import supernova.whokie.friend.infrastructure.repository.FriendRepository;
+import supernova.whokie.question.Question;
+import supernova.whokie.question.QuestionStatus;
+import supernova.whokie.question.repository.QuestionRepository;
+import supernova.whokie.user.Gender;
+import supernova.whokie.user.Role;
+import supernova.whokie.user.Users;
+import supernova.whokie.user.infrastructure.repository.UserRepository;
+
+// 서비스 벤치마크가 공유하는 H2 스프링 컨텍스트와 기본 데이터(host 1명, 친구, 공통 질문)
+public final class BenchmarkContext implements AutoCloseable {
+
+    private static final String JWT_SECRET = "c3VwZXJub3ZhLXdob2tpZS1iZW5jaG1hcmstc2VjcmV0LWtleQ==";
+
+    private final ConfigurableApplicationContext context;
+    private final Users host;
+    private final long[] friendIds;
+    private final long[] questionIds;
+
+    private BenchmarkContext(ConfigurableApplicationContext context, Users host, long[] friendIds, long[] questionIds) {
+        this.context = context;
+        this.host = host;
+        this.friendIds = friendIds;
+        this.questionIds = questionIds;
+    }
+
+    public static BenchmarkContext start(int friendCount, int questionCount) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(WhokieApplication.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "spring.profiles.active=default",
+                "jwt.secret=" + JWT_SECRET,
+                "spring.sql.init.mode=never",
+                "logging.level.root=WARN")
+            .run();
+
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        FriendRepository friendRepository = context.getBean(FriendRepository.class);
+        QuestionRepository questionRepository = context.getBean(QuestionRepository.class);
+
+        Users host = userRepository.save(user(0));
+        List<Users> friends = new ArrayList<>(friendCount);
+        for (int i = 1; i <= friendCount; i++) {
+            friends.add(user(i));
+        }
+        userRepository.saveAll(friends);
+        friendRepository.saveAll(friends.stream()
+            .map(friend -> Friend.builder().hostUser(host).friendUser(friend).build())
+            .toList());
+
+        List<Question> questions = new ArrayList<>(questionCount);
+        for (int i = 1; i <= questionCount; i++) {
+            questions.add(Question.builder()
+                .content("Benchmark Question " + i)
+                .questionStatus(QuestionStatus.APPROVED)
+                .writer(host)
+                .build());
+        }
+        questionRepository.saveAll(questions);
+
+        return new BenchmarkContext(context, host,
+            friends.stream().mapToLong(Users::getId).toArray(),
+            questions.stream().mapToLong(Question::getId).toArray());
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public Long hostId() {
+        return host.getId();
+    }
+
+    public long[] friendIds() {
+        return friendIds;
+    }
+
+    public long[] questionIds() {
+        return questionIds;
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+
+    private static Users user(int index) {
+        return Users.builder()
+            .name("User " + index)
+            .email("user" + index + "@example.com")
+            .point(1000)
+            .age(20)
+            .kakaoId(1_000_000L + index)
+            .gender(index % 2 == 0 ? Gender.M : Gender.F)
+            .imageUrl("image_" + index + ".jpg")
+            .role(Role.USER)
+            .build();
+    }
+}
@@ -0,0 +1,45 @@
+package supernova.whokie.answer.service;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import supernova.whokie.BenchmarkContext;
+import supernova.whokie.answer.service.dto.AnswerCommand;
+
+// 공통 질문 답변 한 건(답변 저장 + 포인트 적립 + 이벤트 발행)의 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AnswerServiceBenchmark {
+
+    private BenchmarkContext context;
+    private AnswerService answerService;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start(50, 20);
+        answerService = context.getBean(AnswerService.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void answerToCommonQuestion() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long[] questionIds = context.questionIds();
+        long[] friendIds = context.friendIds();
+        AnswerCommand.CommonAnswer command = new AnswerCommand.CommonAnswer(
+            questionIds[random.nextInt(questionIds.length)], friendIds[random.nextInt(friendIds.length)]);
+        answerService.answerToCommonQuestion(context.hostId(), command);
+    }
+}
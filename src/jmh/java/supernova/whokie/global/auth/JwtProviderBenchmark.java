@@ -0,0 +1,39 @@
+package supernova.whokie.global.auth;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import supernova.whokie.user.Role;
+
+// 요청마다 토큰 전체를 검증하는 경우와 검증 캐시를 타는 경우의 비용 비교
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtProviderBenchmark {
+
+    private static final String SECRET = "c3VwZXJub3ZhLXdob2tpZS1iZW5jaG1hcmstc2VjcmV0LWtleQ==";
+
+    private JwtProvider jwtProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtProvider = new JwtProvider(SECRET, 1000);
+        token = jwtProvider.createToken(1L, Role.USER);
+    }
+
+    @Benchmark
+    public Object getClaim() {
+        return jwtProvider.getClaim(token);
+    }
+
+    @Benchmark
+    public TokenClaims verifyCached() {
+        return jwtProvider.verify(token);
+    }
+}
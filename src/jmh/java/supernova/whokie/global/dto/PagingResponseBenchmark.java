@@ -0,0 +1,57 @@
+package supernova.whokie.global.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+// 페이지 응답(PagingResponse)과 커서 응답(SliceResponse)의 생성 + JSON 직렬화 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PagingResponseBenchmark {
+
+    @Param({"20", "100"})
+    private int size;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private List<Item> content;
+
+    @Setup
+    public void setUp() {
+        content = new ArrayList<>(size);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < size; i++) {
+            content.add(new Item((long) i, "question content " + i, now.minusMinutes(i)));
+        }
+    }
+
+    @Benchmark
+    public byte[] pagingResponse() throws JsonProcessingException {
+        PageImpl<Item> page = new PageImpl<>(content, PageRequest.of(0, size), 10_000);
+        return objectMapper.writeValueAsBytes(PagingResponse.from(page));
+    }
+
+    @Benchmark
+    public byte[] sliceResponse() throws JsonProcessingException {
+        SliceImpl<Item> slice = new SliceImpl<>(content, PageRequest.of(0, size), true);
+        return objectMapper.writeValueAsBytes(
+            SliceResponse.from(slice, item -> item, item -> new Cursor(item.createdAt(), item.id())));
+    }
+
+    public record Item(Long id, String content, LocalDateTime createdAt) {
+    }
+}
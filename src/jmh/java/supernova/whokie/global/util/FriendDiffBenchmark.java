@@ -0,0 +1,68 @@
+package supernova.whokie.global.util;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// 친구 목록 diff를 박싱된 HashSet과 LongHashSet으로 비교한다. gc 프로파일러의 gc.alloc.rate.norm으로 할당량을 본다
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FriendDiffBenchmark {
+
+    @Param({"100", "5000"})
+    private int friendCount;
+
+    private List<Long> requestedIds;
+    private List<Long> existingIds;
+
+    @Setup
+    public void setUp() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        requestedIds = new ArrayList<>(friendCount);
+        existingIds = new ArrayList<>(friendCount);
+        for (int i = 0; i < friendCount; i++) {
+            requestedIds.add(random.nextLong(1, friendCount * 2L));
+            existingIds.add(random.nextLong(1, friendCount * 2L));
+        }
+    }
+
+    @Benchmark
+    public List<Long> boxedSetDiff() {
+        Set<Long> requested = new HashSet<>(requestedIds);
+        Set<Long> existing = new HashSet<>(existingIds);
+        List<Long> newIds = requested.stream().filter(id -> !existing.contains(id)).toList();
+        List<Long> deleteIds = existing.stream().filter(id -> !requested.contains(id)).toList();
+        return newIds.size() > deleteIds.size() ? newIds : deleteIds;
+    }
+
+    @Benchmark
+    public LongArrayList primitiveSetDiff() {
+        LongHashSet requested = LongHashSet.from(requestedIds);
+        LongHashSet existing = LongHashSet.from(existingIds);
+        LongArrayList newIds = new LongArrayList();
+        LongArrayList deleteIds = new LongArrayList();
+        requested.forEach(id -> {
+            if (!existing.contains(id)) {
+                newIds.add(id);
+            }
+        });
+        existing.forEach(id -> {
+            if (!requested.contains(id)) {
+                deleteIds.add(id);
+            }
+        });
+        return newIds.size() > deleteIds.size() ? newIds : deleteIds;
+    }
+}
@@ -0,0 +1,44 @@
+package supernova.whokie.question.service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import supernova.whokie.BenchmarkContext;
+import supernova.whokie.question.service.dto.QuestionModel;
+
+// 공통 질문 목록 조회(질문 샘플링 + 질문마다 친구 후보 샘플링)의 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QuestionServiceBenchmark {
+
+    @Param({"10", "1000"})
+    private int friendCount;
+
+    private BenchmarkContext context;
+    private QuestionService questionService;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start(friendCount, 100);
+        questionService = context.getBean(QuestionService.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<QuestionModel.CommonQuestion> getCommonQuestion() {
+        return questionService.getCommonQuestion(context.hostId());
+    }
+}
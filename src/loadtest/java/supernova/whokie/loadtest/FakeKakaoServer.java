@@ -0,0 +1,192 @@
+package supernova.whokie.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 카카오 OAuth / 사용자 정보 / 친구 목록 API를 흉내 내는 로컬 서버
+// 인가 코드 user-{n} -> 액세스 토큰 token-{n} -> kakao id 1_000_000 + n 인 합성 유저로 대응한다
+public class FakeKakaoServer {
+
+    public static final long KAKAO_ID_BASE = 1_000_000L;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final long latencyMs;
+    private final double failureRate;
+    private final int maxPageSize;
+    private final int friendCount;
+    private HttpServer server;
+
+    public FakeKakaoServer(long latencyMs, double failureRate, int maxPageSize, int friendCount) {
+        this.latencyMs = latencyMs;
+        this.failureRate = failureRate;
+        this.maxPageSize = maxPageSize;
+        this.friendCount = friendCount;
+    }
+
+    // -Dfake-kakao.port=9090 -Dfake-kakao.latency-ms=30 -Dfake-kakao.failure-rate=0.01
+    // -Dfake-kakao.max-page-size=100 -Dfake-kakao.friend-count=300
+    public static void main(String[] args) throws IOException {
+        FakeKakaoServer server = new FakeKakaoServer(
+            Long.getLong("fake-kakao.latency-ms", 30),
+            Double.parseDouble(System.getProperty("fake-kakao.failure-rate", "0")),
+            Integer.getInteger("fake-kakao.max-page-size", 100),
+            Integer.getInteger("fake-kakao.friend-count", 300));
+        server.start(Integer.getInteger("fake-kakao.port", 9090));
+    }
+
+    public void start(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(port), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/oauth/token", handle(this::token));
+        server.createContext("/v2/user/me", handle(this::userInfo));
+        server.createContext("/v1/api/talk/friends", handle(this::friends));
+        server.start();
+        System.out.printf("fake kakao listening on %d (latency=%dms, failureRate=%.3f, maxPageSize=%d, friends=%d)%n",
+            port, latencyMs, failureRate, maxPageSize, friendCount);
+    }
+
+    public void stop() {
+        server.stop(0);
+    }
+
+    private Object token(HttpExchange exchange) throws IOException {
+        String body = new String(exchange.getRequestBody().readAllBytes());
+        String code = formValue(body, "code");
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("access_token", "token-" + userIndex(code, "user-"));
+        response.put("token_type", "bearer");
+        response.put("refresh_token", "refresh-" + code);
+        response.put("expires_in", 21599);
+        response.put("refresh_token_expires_in", 5183999);
+        return response;
+    }
+
+    private Object userInfo(HttpExchange exchange) {
+        long index = userIndex(bearerToken(exchange), "token-");
+        Map<String, Object> profile = Map.of("profile_image_url", "https://fake.kakao/profile/" + index + ".jpg");
+        Map<String, Object> account = new LinkedHashMap<>();
+        account.put("profile", profile);
+        account.put("name", "부하유저" + index);
+        account.put("email", "loaduser" + index + "@whokie.test");
+        account.put("birthyear", String.valueOf(1990 + index % 15));
+        account.put("gender", index % 2 == 0 ? "male" : "female");
+        return Map.of("id", KAKAO_ID_BASE + index, "kakao_account", account);
+    }
+
+    // 토큰과 무관하게 1..friendCount 번 합성 유저를 친구로 돌려준다(서버가 고정 토큰으로 호출하기 때문)
+    private Object friends(HttpExchange exchange) {
+        Map<String, String> query = queryParams(exchange.getRequestURI());
+        int offset = Integer.parseInt(query.getOrDefault("offset", "0"));
+        int limit = Math.min(Integer.parseInt(query.getOrDefault("limit", String.valueOf(maxPageSize))), maxPageSize);
+
+        List<Map<String, Object>> elements = new ArrayList<>();
+        for (int i = offset; i < Math.min(offset + limit, friendCount); i++) {
+            long index = i + 1;
+            Map<String, Object> element = new LinkedHashMap<>();
+            element.put("id", KAKAO_ID_BASE + index);
+            element.put("uuid", "uuid-" + index);
+            element.put("favorite", false);
+            element.put("profile_nickname", "부하유저" + index);
+            element.put("profile_thumbnail_image", "https://fake.kakao/profile/" + index + ".jpg");
+            elements.add(element);
+        }
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("elements", elements);
+        response.put("total_count", friendCount);
+        int next = offset + limit;
+        response.put("after_url", next < friendCount
+            ? "http://localhost:" + server.getAddress().getPort() + "/v1/api/talk/friends?offset=" + next + "&limit=" + limit
+            : null);
+        return response;
+    }
+
+    private HttpHandler handle(Responder responder) {
+        return exchange -> {
+            try (exchange) {
+                respond(exchange, responder);
+            }
+        };
+    }
+
+    private void respond(HttpExchange exchange, Responder responder) throws IOException {
+        try {
+            if (latencyMs > 0) {
+                Thread.sleep(latencyMs);
+            }
+            if (ThreadLocalRandom.current().nextDouble() < failureRate) {
+                write(exchange, 500, Map.of("msg", "injected failure", "code", -1));
+                return;
+            }
+            write(exchange, 200, responder.respond(exchange));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            write(exchange, 400, Map.of("msg", String.valueOf(e.getMessage()), "code", -2));
+        }
+    }
+
+    private void write(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static String bearerToken(HttpExchange exchange) {
+        String header = exchange.getRequestHeaders().getFirst("Authorization");
+        if (header == null || !header.startsWith("Bearer ")) {
+            throw new IllegalArgumentException("missing bearer token");
+        }
+        return header.substring("Bearer ".length());
+    }
+
+    private static long userIndex(String value, String prefix) {
+        if (value == null || !value.startsWith(prefix)) {
+            throw new IllegalArgumentException("unexpected value: " + value);
+        }
+        return Long.parseLong(value.substring(prefix.length()));
+    }
+
+    private static String formValue(String body, String key) {
+        for (String pair : body.split("&")) {
+            String[] parts = pair.split("=", 2);
+            if (parts[0].equals(key) && parts.length == 2) {
+                return java.net.URLDecoder.decode(parts[1], java.nio.charset.StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    private static Map<String, String> queryParams(URI uri) {
+        Map<String, String> params = new HashMap<>();
+        if (uri.getRawQuery() == null) {
+            return params;
+        }
+        for (String pair : uri.getRawQuery().split("&")) {
+            String[] parts = pair.split("=", 2);
+            params.put(parts[0], parts.length == 2 ? parts[1] : "");
+        }
+        return params;
+    }
+
+    @FunctionalInterface
+    private interface Responder {
+        Object respond(HttpExchange exchange) throws IOException;
+    }
+}
@@ -0,0 +1,66 @@
+package supernova.whokie.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 엔드포인트별 응답 시간(마이크로초)과 상태 코드 분포를 모은다
+public class LatencyRecorder {
+
+    private final Map<String, Series> series = new ConcurrentHashMap<>();
+
+    public void record(String endpoint, long elapsedNanos, int status) {
+        series.computeIfAbsent(endpoint, key -> new Series()).add(elapsedNanos / 1_000, status);
+    }
+
+    public void print(double elapsedSeconds) {
+        System.out.printf("%-32s %8s %10s %10s %10s %8s %8s%n",
+            "endpoint", "count", "p50(ms)", "p99(ms)", "rps", "4xx", "5xx");
+        series.entrySet().stream()
+            .sorted(Map.Entry.comparingByKey())
+            .forEach(entry -> {
+                Series value = entry.getValue();
+                long[] sorted = value.snapshot();
+                System.out.printf("%-32s %8d %10.2f %10.2f %10.1f %8d %8d%n",
+                    entry.getKey(), sorted.length,
+                    percentile(sorted, 0.50) / 1_000.0, percentile(sorted, 0.99) / 1_000.0,
+                    sorted.length / elapsedSeconds,
+                    value.clientErrors.sum(), value.serverErrors.sum());
+            });
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static class Series {
+
+        private long[] micros = new long[1024];
+        private int size;
+        private final LongAdder clientErrors = new LongAdder();
+        private final LongAdder serverErrors = new LongAdder();
+
+        synchronized void add(long elapsedMicros, int status) {
+            if (size == micros.length) {
+                micros = Arrays.copyOf(micros, size * 2);
+            }
+            micros[size++] = elapsedMicros;
+            if (status >= 500) {
+                serverErrors.increment();
+            } else if (status >= 400) {
+                clientErrors.increment();
+            }
+        }
+
+        synchronized long[] snapshot() {
+            long[] copy = Arrays.copyOf(micros, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+}
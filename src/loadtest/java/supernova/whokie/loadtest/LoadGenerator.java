@@ -0,0 +1,149 @@
+package supernova.whokie.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 가상 유저마다 로그인 -> 친구 등록 -> (공통 질문 조회 -> 답변 -> 힌트 구매) 라운드를 반복한다
+// 애플리케이션은 ./gradlew bootRunLoadtest, 카카오 API는 FakeKakaoServer 로 띄운 상태에서 실행한다
+public class LoadGenerator {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LatencyRecorder recorder = new LatencyRecorder();
+    // 성공한 공통 답변 수. 답변 id 는 1부터 증가하므로 힌트 구매 대상 id 를 이 범위에서 뽑는다
+    private final AtomicLong answeredCount = new AtomicLong();
+    private final HttpClient client = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(5))
+        .executor(Executors.newVirtualThreadPerTaskExecutor())
+        .build();
+    private final String baseUrl;
+    private final int users;
+    private final int rounds;
+
+    public LoadGenerator(String baseUrl, int users, int rounds) {
+        this.baseUrl = baseUrl;
+        this.users = users;
+        this.rounds = rounds;
+    }
+
+    // -Dloadtest.base-url=http://localhost:8080 -Dloadtest.users=200 -Dloadtest.rounds=20
+    public static void main(String[] args) throws InterruptedException {
+        LoadGenerator generator = new LoadGenerator(
+            System.getProperty("loadtest.base-url", "http://localhost:8080"),
+            Integer.getInteger("loadtest.users", 200),
+            Integer.getInteger("loadtest.rounds", 20));
+        generator.run();
+    }
+
+    public void run() throws InterruptedException {
+        long started = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 1; i <= users; i++) {
+                int index = i;
+                executor.submit(() -> runUser(index));
+            }
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.HOURS);
+        }
+        double elapsedSeconds = (System.nanoTime() - started) / 1_000_000_000.0;
+        System.out.printf("users=%d rounds=%d elapsed=%.1fs%n", users, rounds, elapsedSeconds);
+        recorder.print(elapsedSeconds);
+    }
+
+    private void runUser(int index) {
+        try {
+            HttpResponse<String> login = send("GET /api/user/callback",
+                request("/api/user/callback?code=user-" + index).GET());
+            String token = login.headers().firstValue("Authorization").orElse(null);
+            if (token == null) {
+                return;
+            }
+
+            registerFriends(token);
+            for (int round = 0; round < rounds; round++) {
+                answerRandomQuestion(token);
+                purchaseHint(token);
+            }
+        } catch (Exception e) {
+            System.err.printf("user-%d aborted: %s%n", index, e);
+        }
+    }
+
+    private void registerFriends(String token) throws Exception {
+        HttpResponse<String> response = send("GET /api/friend", authorized("/api/friend", token).GET());
+        if (response.statusCode() != 200) {
+            return;
+        }
+        List<Map<String, Long>> friends = new ArrayList<>();
+        for (JsonNode friend : objectMapper.readTree(response.body()).path("friends")) {
+            friends.add(Map.of("id", friend.path("friendId").asLong()));
+        }
+        send("POST /api/friend", post(authorized("/api/friend", token), Map.of("friends", friends)));
+    }
+
+    private void answerRandomQuestion(String token) throws Exception {
+        HttpResponse<String> response = send("GET /api/common/question/random",
+            authorized("/api/common/question/random", token).GET());
+        if (response.statusCode() != 200) {
+            return;
+        }
+        JsonNode questions = objectMapper.readTree(response.body()).path("questions");
+        if (questions.isEmpty()) {
+            return;
+        }
+        JsonNode question = questions.get(ThreadLocalRandom.current().nextInt(questions.size()));
+        JsonNode candidates = question.path("users");
+        if (candidates.isEmpty()) {
+            return;
+        }
+        long pickedId = candidates.get(ThreadLocalRandom.current().nextInt(candidates.size())).path("userId").asLong();
+
+        HttpResponse<String> answered = send("POST /api/answer/common", post(authorized("/api/answer/common", token),
+            Map.of("questionId", question.path("questionId").asLong(), "pickedId", pickedId)));
+        if (answered.statusCode() == 200) {
+            answeredCount.incrementAndGet();
+        }
+    }
+
+    // 내가 지목된 답변을 조회하는 API가 없어 임의의 답변 id 로 구매를 시도한다(본인 답변이 아니면 4xx 로 집계된다)
+    private void purchaseHint(String token) throws Exception {
+        long answered = answeredCount.get();
+        if (answered == 0) {
+            return;
+        }
+        long answerId = ThreadLocalRandom.current().nextLong(answered) + 1;
+        send("POST /api/answer/hint", post(authorized("/api/answer/hint", token), Map.of("answerId", answerId)));
+    }
+
+    private HttpResponse<String> send(String endpoint, HttpRequest.Builder builder) throws Exception {
+        long started = System.nanoTime();
+        HttpResponse<String> response = client.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+        recorder.record(endpoint, System.nanoTime() - started, response.statusCode());
+        return response;
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30));
+    }
+
+    private HttpRequest.Builder authorized(String path, String token) {
+        return request(path).header("Authorization", "Bearer " + token);
+    }
+
+    private HttpRequest.Builder post(HttpRequest.Builder builder, Object body) throws Exception {
+        return builder.header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+    }
+}
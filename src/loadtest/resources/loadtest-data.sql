@@ -0,0 +1,55 @@
+-- fake-kakao 프로필(bootRunLoadtest)에서만 읽는 공통 질문 데이터
+INSERT INTO users (name, email, point, age, kakao_id, gender, image_url, role, created_at, modified_at)
+VALUES ('loadtest-writer', 'loadtest-writer@whokie.test', 0, 20, 0, 'M', 'image', 'USER', NOW(), NOW());
+
+INSERT INTO question (content, question_status, group_id, writer_id, created_at, modified_at) VALUES
+('부하 테스트 질문 1', 'APPROVED', NULL, 1, NOW(), NOW()),
+('부하 테스트 질문 2', 'APPROVED', NULL, 1, NOW(), NOW()),
+('부하 테스트 질문 3', 'APPROVED', NULL, 1, NOW(), NOW()),
+('부하 테스트 질문 4', 'APPROVED', NULL, 1, NOW(), NOW()),
+('부하 테스트 질문 5', 'APPROVED', NULL, 1, NOW(), NOW()),
+('부하 테스트 질문 6', 'APPROVED', NULL, 1, NOW(), NOW()),
+('부하 테스트 질문 7', 'APPROVED', NULL, 1, NOW(), NOW()),
+('부하 테스트 질문 8', 'APPROVED', NULL, 1, NOW(), NOW()),
+('부하 테스트 질문 9', 'APPROVED', NULL, 1, NOW(), NOW()),
+('부하 테스트 질문 10', 'APPROVED', NULL, 1, NOW(), NOW()),
+('부하 테스트 질문 11', 'APPROVED', NULL, 1, NOW(), NOW()),
+('부하 테스트 질문 12', 'APPROVED', NULL, 1, NOW(), NOW()),
+('부하 테스트 질문 13', 'APPROVED', NULL, 1, NOW(), NOW()),
+('부하 테스트 질문 14', 'APPROVED', NULL, 1, NOW(), NOW()),
+('부하 테스트 질문 15', 'APPROVED', NULL, 1, NOW(), NOW()),
+('부하 테스트 질문 16', 'APPROVED', NULL, 1, NOW(), NOW()),
+('부하 테스트 질문 17', 'APPROVED', NULL, 1, NOW(), NOW()),
+('부하 테스트 질문 18', 'APPROVED', NULL, 1, NOW(), NOW()),
+('부하 테스트 질문 19', 'APPROVED', NULL, 1, NOW(), NOW()),
+('부하 테스트 질문 20', 'APPROVED', NULL, 1, NOW(), NOW()),
+('부하 테스트 질문 21', 'APPROVED', NULL, 1, NOW(), NOW()),
+('부하 테스트 질문 22', 'APPROVED', NULL, 1, NOW(), NOW()),
+('부하 테스트 질문 23', 'APPROVED', NULL, 1, NOW(), NOW()),
+('부하 테스트 질문 24', 'APPROVED', NULL, 1, NOW(), NOW()),
+('부하 테스트 질문 25', 'APPROVED', NULL, 1, NOW(), NOW()),
+('부하 테스트 질문 26', 'APPROVED', NULL, 1, NOW(), NOW()),
+('부하 테스트 질문 27', 'APPROVED', NULL, 1, NOW(), NOW()),
+('부하 테스트 질문 28', 'APPROVED', NULL, 1, NOW(), NOW()),
+('부하 테스트 질문 29', 'APPROVED', NULL, 1, NOW(), NOW()),
+('부하 테스트 질문 30', 'APPROVED', NULL, 1, NOW(), NOW()),
+('부하 테스트 질문 31', 'APPROVED', NULL, 1, NOW(), NOW()),
+('부하 테스트 질문 32', 'APPROVED', NULL, 1, NOW(), NOW()),
+('부하 테스트 질문 33', 'APPROVED', NULL, 1, NOW(), NOW()),
+('부하 테스트 질문 34', 'APPROVED', NULL, 1, NOW(), NOW()),
+('부하 테스트 질문 35', 'APPROVED', NULL, 1, NOW(), NOW()),
+('부하 테스트 질문 36', 'APPROVED', NULL, 1, NOW(), NOW()),
+('부하 테스트 질문 37', 'APPROVED', NULL, 1, NOW(), NOW()),
+('부하 테스트 질문 38', 'APPROVED', NULL, 1, NOW(), NOW()),
+('부하 테스트 질문 39', 'APPROVED', NULL, 1, NOW(), NOW()),
+('부하 테스트 질문 40', 'APPROVED', NULL, 1, NOW(), NOW()),
+('부하 테스트 질문 41', 'APPROVED', NULL, 1, NOW(), NOW()),
+('부하 테스트 질문 42', 'APPROVED', NULL, 1, NOW(), NOW()),
+('부하 테스트 질문 43', 'APPROVED', NULL, 1, NOW(), NOW()),
+('부하 테스트 질문 44', 'APPROVED', NULL, 1, NOW(), NOW()),
+('부하 테스트 질문 45', 'APPROVED', NULL, 1, NOW(), NOW()),
+('부하 테스트 질문 46', 'APPROVED', NULL, 1, NOW(), NOW()),
+('부하 테스트 질문 47', 'APPROVED', NULL, 1, NOW(), NOW()),
+('부하 테스트 질문 48', 'APPROVED', NULL, 1, NOW(), NOW()),
+('부하 테스트 질문 49', 'APPROVED', NULL, 1, NOW(), NOW()),
+('부하 테스트 질문 50', 'APPROVED', NULL, 1, NOW(), NOW());
@@ -14,6 +14,8 @@ import supernova.whokie.user.Users;
 @Entity
 @Builder
 @Getter
+// 답변 기록 조회가 answer 테이블에서는 인덱스만 읽도록 필요한 컬럼을 모두 포함한다
+@Table(indexes = @Index(name = "idx_answer_picker_record", columnList = "picker_id, created_at, id, question_id, hint_count"))
 public class Answer extends BaseTimeEntity {
 
     @Id
@@ -49,8 +51,4 @@ public class Answer extends BaseTimeEntity {
                 .build();
     }
 
-    public void increaseHintCount() {
-        this.hintCount++;
-    }
-
 }
@@ -1,6 +1,7 @@
 package supernova.whokie.answer.controller;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
@@ -13,8 +14,10 @@ import supernova.whokie.answer.controller.dto.AnswerResponse;
 import supernova.whokie.answer.service.AnswerService;
 import supernova.whokie.answer.service.dto.AnswerModel;
 import supernova.whokie.global.annotation.Authenticate;
+import supernova.whokie.global.annotation.StatementBudget;
 import supernova.whokie.global.dto.GlobalResponse;
 import supernova.whokie.global.dto.PagingResponse;
+import supernova.whokie.global.dto.SliceResponse;
 
 import java.util.List;
 
@@ -36,9 +39,11 @@ public class AnswerController {
 
     @PostMapping("/group")
     public GlobalResponse group(
-        @RequestBody @Valid AnswerRequest.Group request
+        @RequestBody @Valid AnswerRequest.Group request,
+        @Authenticate Long userId
     ) {
-        return GlobalResponse.builder().message("dummy").build();
+        answerService.answerToGroupQuestion(userId, request.toCommand());
+        return GlobalResponse.builder().message("답변 완료").build();
     }
 
     @GetMapping("/refresh")
@@ -50,6 +55,7 @@ public class AnswerController {
     }
 
     @GetMapping("/record")
+    @StatementBudget(2)
     public PagingResponse<AnswerResponse.Record> getAnswerRecord(
         @PageableDefault(page = 0, size = 10, sort = "createdAt", direction = Sort.Direction.ASC) Pageable pageable,
         @Authenticate Long userId
@@ -57,6 +63,16 @@ public class AnswerController {
         return answerService.getAnswerRecord(pageable, userId);
     }
 
+    @GetMapping("/record/scroll")
+    @StatementBudget(2)
+    public SliceResponse<AnswerResponse.Record> getAnswerRecordScroll(
+        @RequestParam(value = "cursor", required = false) String cursor,
+        @RequestParam(value = "size", defaultValue = "10") @Min(1) @Max(100) int size,
+        @Authenticate Long userId
+    ) {
+        return answerService.getAnswerRecordSlice(userId, cursor, size);
+    }
+
     @GetMapping("/hint/{answer-id}")
     public AnswerResponse.Hints getHints(
         @PathVariable("answer-id") @NotNull @Min(1) String answerId,
@@ -29,7 +29,13 @@ public class AnswerRequest {
             @NotNull @Min(1)
             Long pickedId
     ) {
-
+        public AnswerCommand.GroupAnswer toCommand() {
+            return AnswerCommand.GroupAnswer.builder()
+                    .questionId(this.questionId)
+                    .groupId(this.groupId)
+                    .pickedId(this.pickedId)
+                    .build();
+        }
     }
 
     public record Purchase(
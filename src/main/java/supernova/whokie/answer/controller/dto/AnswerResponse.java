@@ -1,7 +1,7 @@
 package supernova.whokie.answer.controller.dto;
 
 import lombok.Builder;
-import supernova.whokie.answer.Answer;
+import supernova.whokie.answer.repository.AnswerRecordProjection;
 import supernova.whokie.answer.service.dto.AnswerModel;
 import supernova.whokie.user.service.dto.UserModel;
 
@@ -30,13 +30,13 @@ public class AnswerResponse {
             int hintCount,
             LocalDate createdAt
     ) {
-        public static AnswerResponse.Record from(Answer answer) {
+        public static AnswerResponse.Record from(AnswerRecordProjection record) {
             return new Record(
-                    answer.getId(),
-                    answer.getQuestion().getId(),
-                    answer.getQuestion().getContent(),
-                    answer.getHintCount(),
-                    answer.getCreatedAt().toLocalDate()
+                    record.answerId(),
+                    record.questionId(),
+                    record.questionContent(),
+                    record.hintCount(),
+                    record.createdAt().toLocalDate()
             );
         }
     }
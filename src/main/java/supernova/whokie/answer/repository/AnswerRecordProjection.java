@@ -0,0 +1,14 @@
+package supernova.whokie.answer.repository;
+
+import java.time.LocalDateTime;
+
+// 답변 기록 화면에 필요한 컬럼만 읽는 projection
+public record AnswerRecordProjection(
+    Long answerId,
+    Long questionId,
+    String questionContent,
+    Integer hintCount,
+    LocalDateTime createdAt
+) {
+
+}
@@ -1,13 +1,33 @@
 package supernova.whokie.answer.repository;
 
+import java.time.LocalDateTime;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import supernova.whokie.answer.Answer;
-import supernova.whokie.user.Users;
 
 @Repository
 public interface AnswerRepository extends JpaRepository<Answer, Long> {
-    Page<Answer> findAllByPicker(Pageable pageable, Users user);
+    String RECORD_PROJECTION = "SELECT new supernova.whokie.answer.repository.AnswerRecordProjection("
+        + "a.id, q.id, q.content, a.hintCount, a.createdAt) FROM Answer a JOIN a.question q ";
+
+    @Query(value = RECORD_PROJECTION + "WHERE a.picker.id = :pickerId",
+        countQuery = "SELECT COUNT(a) FROM Answer a WHERE a.picker.id = :pickerId")
+    Page<AnswerRecordProjection> findRecordsByPickerId(@Param("pickerId") Long pickerId, Pageable pageable);
+
+    // (created_at, id) 기준 keyset 조회. count 쿼리 없이 size + 1개만 읽는다
+    @Query(RECORD_PROJECTION + "WHERE a.picker.id = :pickerId "
+        + "AND (a.createdAt > :createdAt OR (a.createdAt = :createdAt AND a.id > :id)) "
+        + "ORDER BY a.createdAt ASC, a.id ASC")
+    Slice<AnswerRecordProjection> findRecordSliceByPickerId(@Param("pickerId") Long pickerId, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    // 읽어 둔 힌트 수가 그대로일 때만 늘린다. 같은 답변에 동시에 구매하면 한 요청만 반영된다
+    @Modifying
+    @Query("UPDATE Answer a SET a.hintCount = a.hintCount + 1 WHERE a.id = :id AND a.hintCount = :hintCount")
+    int increaseHintCount(@Param("id") Long id, @Param("hintCount") int hintCount);
 }
@@ -1,30 +1,37 @@
 package supernova.whokie.answer.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import supernova.whokie.answer.Answer;
 import supernova.whokie.answer.controller.dto.AnswerResponse;
+import supernova.whokie.answer.repository.AnswerRecordProjection;
 import supernova.whokie.answer.repository.AnswerRepository;
 import supernova.whokie.answer.service.dto.AnswerCommand;
 import supernova.whokie.answer.service.dto.AnswerModel;
-import supernova.whokie.friend.Friend;
-import supernova.whokie.friend.infrastructure.repository.FriendRepository;
+import supernova.whokie.friend.infrastructure.cache.FriendGraphCache;
 import supernova.whokie.global.constants.Constants;
+import supernova.whokie.global.dto.Cursor;
 import supernova.whokie.global.dto.PagingResponse;
+import supernova.whokie.global.dto.SliceResponse;
 import supernova.whokie.global.exception.EntityNotFoundException;
-import supernova.whokie.point_record.PointRecord;
+import supernova.whokie.group_member.GroupMember;
+import supernova.whokie.group_member.infrastructure.repository.GroupMemberRepository;
+import supernova.whokie.point_account.service.PointAccountService;
 import supernova.whokie.point_record.PointRecordOption;
 import supernova.whokie.point_record.event.PointRecordEventDto;
-import supernova.whokie.point_record.infrastructure.repository.PointRecordRepository;
 import supernova.whokie.global.exception.InvalidEntityException;
 import supernova.whokie.question.Question;
+import supernova.whokie.question.event.QuestionEventDto;
 import supernova.whokie.question.repository.QuestionRepository;
+import supernova.whokie.ranking.event.RankingEventDto;
 import supernova.whokie.user.Users;
 import supernova.whokie.user.infrastructure.repository.UsersRepository;
 
@@ -33,31 +40,44 @@ import java.util.ArrayList;
 import java.util.List;
 import supernova.whokie.user.service.dto.UserModel;
 
+@Timed("whokie.service")
 @Service
 @RequiredArgsConstructor
 public class AnswerService {
 
     private final AnswerRepository answerRepository;
-    private final FriendRepository friendRepository;
+    private final FriendGraphCache friendGraphCache;
     private final UsersRepository userRepository;
     private final QuestionRepository questionRepository;
-    private final PointRecordRepository pointRecordRepository;
+    private final GroupMemberRepository groupMemberRepository;
+    private final PointAccountService pointAccountService;
     private final ApplicationEventPublisher eventPublisher;
 
 
     @Transactional(readOnly = true)
     public PagingResponse<AnswerResponse.Record> getAnswerRecord(Pageable pageable, Long userId) {
-        Users user = userRepository.findById(userId)
-            .orElseThrow(() -> new EntityNotFoundException("해당 유저를 찾을 수 없습니다."));
+        Page<AnswerRecordProjection> records = answerRepository.findRecordsByPickerId(userId, pageable);
+        validateUserIfEmpty(records, userId);
 
-        Page<Answer> answers = answerRepository.findAllByPicker(pageable, user);
+        return PagingResponse.from(records.map(AnswerResponse.Record::from));
+    }
 
-        List<AnswerResponse.Record> answerResponse = answers.stream()
-            .map(AnswerResponse.Record::from)
-            .toList();
+    @Transactional(readOnly = true)
+    public SliceResponse<AnswerResponse.Record> getAnswerRecordSlice(Long userId, String cursor, int size) {
+        Cursor position = Cursor.decode(cursor);
+        Slice<AnswerRecordProjection> records = answerRepository.findRecordSliceByPickerId(
+            userId, position.createdAt(), position.id(), PageRequest.of(0, size));
+        validateUserIfEmpty(records, userId);
+
+        return SliceResponse.from(records, AnswerResponse.Record::from,
+            record -> new Cursor(record.createdAt(), record.answerId()));
+    }
 
-        return PagingResponse.from(
-            new PageImpl<>(answerResponse, pageable, answers.getTotalElements()));
+    // 기록이 있으면 유저도 있으므로, 비어 있을 때만 유저를 확인해 없는 유저는 404로 응답한다
+    private void validateUserIfEmpty(Slice<AnswerRecordProjection> records, Long userId) {
+        if (!records.hasContent() && !userRepository.existsById(userId)) {
+            throw new EntityNotFoundException("해당 유저를 찾을 수 없습니다.");
+        }
     }
 
     @Transactional
@@ -72,28 +92,38 @@ public class AnswerService {
         Answer answer = command.toEntity(question, user, picked, Constants.DEFAULT_HINT_COUNT);
         answerRepository.save(answer);
 
-        user.increasePoint(Constants.ANSWER_POINT);
+        pointAccountService.credit(userId, Constants.ANSWER_POINT);
         eventPublisher.publishEvent(
             PointRecordEventDto.Earn.toDto(userId, Constants.ANSWER_POINT, 0, PointRecordOption.CHARGED,
                 Constants.POINT_EARN_MESSAGE));
-
+        eventPublisher.publishEvent(
+            RankingEventDto.Pick.toDto(picked.getId(), null, null, question.getId(), question.getContent()));
+        eventPublisher.publishEvent(QuestionEventDto.Answered.toDto(userId, question.getId()));
     }
 
-    public void recordEarnPoint(PointRecordEventDto.Earn event) {
-        PointRecord pointRecord = PointRecord.create(event.userId(), event.point(), event.amount(),
-            event.option(), event.message());
-        pointRecordRepository.save(pointRecord);
+    @Transactional
+    public void answerToGroupQuestion(Long userId, AnswerCommand.GroupAnswer command) {
+        GroupMember picker = groupMemberRepository.findByUserIdAndGroupId(userId, command.groupId())
+            .orElseThrow(() -> new EntityNotFoundException("그룹 내에 해당 유저가 존재하지 않습니다."));
+        Question question = questionRepository.findByIdAndGroupId(command.questionId(), command.groupId())
+            .orElseThrow(() -> new EntityNotFoundException("그룹 내에 해당 질문이 존재하지 않습니다."));
+        GroupMember picked = groupMemberRepository.findByUserIdAndGroupId(command.pickedId(), command.groupId())
+            .orElseThrow(() -> new EntityNotFoundException("그룹 내에 해당 유저가 존재하지 않습니다."));
+
+        Answer answer = command.toEntity(question, picker.getUser(), picked.getUser(), Constants.DEFAULT_HINT_COUNT);
+        answerRepository.save(answer);
+
+        eventPublisher.publishEvent(
+            RankingEventDto.Pick.toDto(command.pickedId(), command.groupId(), picker.getGroup().getGroupName(),
+                question.getId(), question.getContent()));
     }
 
     @Transactional(readOnly = true)
     public AnswerModel.Refresh refreshAnswerList(Long userId) {
         Users user = userRepository.findById(userId)
             .orElseThrow(() -> new EntityNotFoundException("유저가 존재하지 않습니다."));
-        List<Friend> allFriends = friendRepository.findAllByHostUser(user);
-
-        List<UserModel.PickedInfo> friendsInfoList = allFriends.stream().map(
-            friend -> UserModel.PickedInfo.from(friend.getFriendUser())
-        ).toList();
+        long[] friendIds = friendGraphCache.getFriendIds(user.getId());
+        List<UserModel.PickedInfo> friendsInfoList = friendGraphCache.getPickedInfos(friendIds);
 
         return AnswerModel.Refresh.from(friendsInfoList);
     }
@@ -107,31 +137,24 @@ public class AnswerService {
 
         validateIsPickedUser(answer, user);
 
-        decreaseUserPoint(user, answer);
-        answer.increaseHintCount();
-    }
-
-    private void decreaseUserPoint(Users user, Answer answer) {
-        switch (answer.getHintCount()) {
-            case 1:
-                checkUserHasNotEnoughPoint(user, Constants.FIRST_HINT_PURCHASE_POINT);
-                user.decreasePoint(Constants.FIRST_HINT_PURCHASE_POINT);
-                break;
-            case 2:
-                checkUserHasNotEnoughPoint(user, Constants.SECOND_HINT_PURCHASE_POINT);
-                user.decreasePoint(Constants.SECOND_HINT_PURCHASE_POINT);
-                break;
-            case 3:
-                checkUserHasNotEnoughPoint(user, Constants.THIRD_HINT_PURCHASE_POINT);
-                user.decreasePoint(Constants.THIRD_HINT_PURCHASE_POINT);
-                break;
+        // 읽은 힌트 수 기준으로 조건부 증가시켜, 동시에 들어온 구매가 같은 힌트를 두 번 팔지 않게 한다
+        int hintCount = answer.getHintCount();
+        if (answerRepository.increaseHintCount(answer.getId(), hintCount) == 0) {
+            throw new InvalidEntityException("이미 처리된 힌트 구매 요청입니다.");
+        }
+        int hintPurchasePoint = getHintPurchasePoint(hintCount);
+        if (hintPurchasePoint > 0) {
+            pointAccountService.debit(user.getId(), hintPurchasePoint);
         }
     }
 
-    private static void checkUserHasNotEnoughPoint(Users user, int hintPurchasePoint) {
-        if (user.hasNotEnoughPoint(hintPurchasePoint)) {
-            throw new InvalidEntityException("포인트가 부족합니다.");
-        }
+    private static int getHintPurchasePoint(int hintCount) {
+        return switch (hintCount) {
+            case 1 -> Constants.FIRST_HINT_PURCHASE_POINT;
+            case 2 -> Constants.SECOND_HINT_PURCHASE_POINT;
+            case 3 -> Constants.THIRD_HINT_PURCHASE_POINT;
+            default -> 0;
+        };
     }
 
     @Transactional(readOnly = true)
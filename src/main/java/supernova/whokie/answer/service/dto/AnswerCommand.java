@@ -16,6 +16,17 @@ public class AnswerCommand {
         }
     }
 
+    @Builder
+    public record GroupAnswer(
+            Long questionId,
+            Long groupId,
+            Long pickedId
+    ) {
+        public Answer toEntity(Question question, Users user, Users picked, int hintCount) {
+            return Answer.create(question, user, picked, hintCount);
+        }
+    }
+
     @Builder
     public record Purchase(
             Long answerId
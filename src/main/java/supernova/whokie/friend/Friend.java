@@ -6,6 +6,8 @@ import lombok.*;
 import supernova.whokie.user.Users;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(
+    name = "uk_friend_host_friend", columnNames = {"host_user_id", "friend_user_id"}))
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
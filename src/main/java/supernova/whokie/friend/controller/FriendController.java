@@ -6,11 +6,10 @@ import org.springframework.web.bind.annotation.*;
 import supernova.whokie.friend.controller.dto.FriendRequest;
 import supernova.whokie.friend.controller.dto.FriendResponse;
 import supernova.whokie.friend.service.FriendService;
-import supernova.whokie.friend.service.dto.FriendModel;
 import supernova.whokie.global.annotation.Authenticate;
 import supernova.whokie.global.dto.GlobalResponse;
 
-import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/friend")
@@ -28,10 +27,10 @@ public class FriendController {
     }
 
     @GetMapping("")
-    public FriendResponse.Infos getKakaoFriends(
+    public CompletableFuture<FriendResponse.Infos> getKakaoFriends(
             @Authenticate Long userId
     ) {
-        List<FriendModel.Info> infos = friendService.getKakaoFriends(userId);
-        return FriendResponse.Infos.from(infos);
+        return friendService.getKakaoFriends(userId)
+                .thenApply(FriendResponse.Infos::from);
     }
 }
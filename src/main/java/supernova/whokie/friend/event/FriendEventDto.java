@@ -1,24 +1,30 @@
 package supernova.whokie.friend.event;
 
 import lombok.Builder;
-import supernova.whokie.friend.Friend;
 import supernova.whokie.friend.service.dto.FriendCommand;
 
-import java.util.List;
-
 public class FriendEventDto {
 
     @Builder
     public record Update(
         Long hostId,
-        FriendCommand.Update command,
-        List<Friend> existingFriends
+        FriendCommand.Update command
     ) {
-        public static FriendEventDto.Update toDto(Long hostId, FriendCommand.Update command, List<Friend> existingFriends) {
+        public static FriendEventDto.Update toDto(Long hostId, FriendCommand.Update command) {
             return Update.builder()
                     .hostId(hostId)
                     .command(command)
-                    .existingFriends(existingFriends)
+                    .build();
+        }
+    }
+
+    @Builder
+    public record Changed(
+        Long hostId
+    ) {
+        public static FriendEventDto.Changed toDto(Long hostId) {
+            return Changed.builder()
+                    .hostId(hostId)
                     .build();
         }
     }
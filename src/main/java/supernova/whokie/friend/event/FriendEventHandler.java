@@ -1,27 +1,33 @@
 package supernova.whokie.friend.event;
 
 import lombok.AllArgsConstructor;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
-import supernova.whokie.friend.service.FriendService;
+import supernova.whokie.friend.infrastructure.cache.FriendGraphCache;
+import supernova.whokie.friend.service.FriendSyncCoordinator;
+import supernova.whokie.user.event.UserEventDto;
 
 @Component
 @AllArgsConstructor
 public class FriendEventHandler {
-    private final FriendService friendService;
+    private final FriendSyncCoordinator friendSyncCoordinator;
+    private final FriendGraphCache friendGraphCache;
 
-    @Async
+    // 실제 동기화는 friendExecutor에서 host별로 순서대로 실행된다
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    public void deleteFriendsListener(FriendEventDto.Update dto) {
-        friendService.deleteFriends(dto.command(), dto.existingFriends());
+    public void syncFriendsListener(FriendEventDto.Update dto) {
+        friendSyncCoordinator.submit(dto.hostId(), dto.command());
     }
 
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void evictFriendGraphListener(FriendEventDto.Changed dto) {
+        friendGraphCache.evict(dto.hostId());
+    }
 
-    @Async
+    // 친구 후보로 보여 주는 이름과 이미지가 바뀌었으므로 스냅샷을 비운다
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    public void saveFriendsListener(FriendEventDto.Update dto) {
-        friendService.saveFriends(dto.hostId(), dto.command(), dto.existingFriends());
+    public void evictPickedInfoListener(UserEventDto.Changed dto) {
+        friendGraphCache.evictPickedInfo(dto.userId());
     }
 }
@@ -1,21 +1,78 @@
 package supernova.whokie.friend.infrastructure.apiCaller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.AllArgsConstructor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.util.UriComponentsBuilder;
 import supernova.whokie.friend.infrastructure.apiCaller.dto.KakaoDto;
+import supernova.whokie.global.config.AsyncConfig;
+import supernova.whokie.global.property.KakaoProperties;
 
 @Component
-@AllArgsConstructor
 public class FriendKakaoApiCaller {
     private final RestClient restClient;
     private final ObjectMapper objectMapper;
+    private final KakaoProperties kakaoProperties;
+    private final Executor kakaoApiExecutor;
+    private final int pageSize;
 
-    public KakaoDto.Friends getKakaoFriends(String accessToken) {
+    public FriendKakaoApiCaller(
+        RestClient restClient,
+        ObjectMapper objectMapper,
+        KakaoProperties kakaoProperties,
+        @Qualifier(AsyncConfig.KAKAO_API_EXECUTOR) Executor kakaoApiExecutor,
+        @Value("${kakao-friend-page-size}") int pageSize
+    ) {
+        this.restClient = restClient;
+        this.objectMapper = objectMapper;
+        this.kakaoProperties = kakaoProperties;
+        this.kakaoApiExecutor = kakaoApiExecutor;
+        this.pageSize = pageSize;
+    }
+
+    // 첫 페이지의 total_count로 나머지 offset을 계산해 동시에 요청한다. 모든 페이지를 kakaoApiExecutor에서 받으므로 호출한 스레드는 기다리지 않는다
+    public CompletableFuture<List<KakaoDto.Profile>> getAllKakaoFriends(String accessToken) {
+        return CompletableFuture.supplyAsync(() -> getKakaoFriends(accessToken, 0), kakaoApiExecutor)
+            .thenCompose(first -> getRemainingKakaoFriends(accessToken, first));
+    }
+
+    private CompletableFuture<List<KakaoDto.Profile>> getRemainingKakaoFriends(String accessToken,
+        KakaoDto.Friends first) {
+        int totalCount = first.totalCount() == null ? first.elements().size() : first.totalCount();
+        if (first.afterUrl() == null || totalCount <= first.elements().size()) {
+            return CompletableFuture.completedFuture(first.elements());
+        }
+
+        List<CompletableFuture<KakaoDto.Friends>> pages = new ArrayList<>();
+        for (int offset = first.elements().size(); offset < totalCount; offset += pageSize) {
+            int pageOffset = offset;
+            pages.add(CompletableFuture.supplyAsync(() -> getKakaoFriends(accessToken, pageOffset), kakaoApiExecutor));
+        }
+
+        return CompletableFuture.allOf(pages.toArray(CompletableFuture[]::new))
+            .thenApply(done -> {
+                List<KakaoDto.Profile> profiles = new ArrayList<>(totalCount);
+                profiles.addAll(first.elements());
+                pages.forEach(page -> profiles.addAll(page.join().elements()));
+                return profiles;
+            });
+    }
+
+    public KakaoDto.Friends getKakaoFriends(String accessToken, int offset) {
+        String uri = UriComponentsBuilder.fromHttpUrl(kakaoProperties.friendsUrl())
+            .queryParam("offset", offset)
+            .queryParam("limit", pageSize)
+            .queryParam("order", "asc")
+            .toUriString();
         try {
             return restClient.get()
-                    .uri("https://kapi.kakao.com/v1/api/talk/friends")
+                    .uri(uri)
                     .header("Authorization", "Bearer " + accessToken)
                     .exchange((req, res) -> {
                         return objectMapper.readValue(res.getBody(), KakaoDto.Friends.class);
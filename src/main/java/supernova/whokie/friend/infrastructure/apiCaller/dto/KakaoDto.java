@@ -11,6 +11,7 @@ public class KakaoDto {
     @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
     public record Friends(
         String afterUrl,
+        Integer totalCount,
         List<Profile> elements
     ) {
 
@@ -0,0 +1,109 @@
+package supernova.whokie.friend.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import supernova.whokie.friend.infrastructure.repository.FriendRepository;
+import supernova.whokie.global.cache.CacheStats;
+import supernova.whokie.global.cache.CacheStatsSource;
+import supernova.whokie.global.cache.LruCache;
+import supernova.whokie.user.infrastructure.repository.UserRepository;
+import supernova.whokie.user.service.dto.UserModel;
+
+// host user id -> 친구 user id 배열, user id -> PickedInfo, user id -> 카카오 친구 스냅샷 캐시
+@Component
+public class FriendGraphCache implements CacheStatsSource {
+
+    private final FriendRepository friendRepository;
+    private final UserRepository userRepository;
+
+    private final LruCache<Long, long[]> friendIds;
+    private final LruCache<Long, UserModel.PickedInfo> pickedInfos;
+    private final LruCache<Long, KakaoFriendSnapshot> kakaoFriendSnapshots;
+
+    public FriendGraphCache(
+        FriendRepository friendRepository,
+        UserRepository userRepository,
+        @Value("${friend-cache-max-ids}") long maxFriendIds,
+        @Value("${picked-info-cache-max-size}") long maxPickedInfos,
+        @Value("${picked-info-cache-ttl-seconds}") long pickedInfoTtlSeconds,
+        @Value("${kakao-friend-snapshot-cache-max-ids}") long maxSnapshotIds,
+        @Value("${kakao-friend-snapshot-ttl-seconds}") long snapshotTtlSeconds
+    ) {
+        this.friendRepository = friendRepository;
+        this.userRepository = userRepository;
+        // 빈 배열도 한 칸으로 계산해 친구 없는 유저가 무한히 쌓이지 않게 한다
+        this.friendIds = new LruCache<>(maxFriendIds, ids -> ids.length + 1);
+        // 유저 변경 이벤트로 비우지만, 다른 인스턴스에서 바뀐 이름/이미지도 ttl 안에는 따라가게 한다
+        this.pickedInfos = LruCache.ofSize(maxPickedInfos, Duration.ofSeconds(pickedInfoTtlSeconds));
+        // 새로 가입한 카카오 친구는 가입 때 스냅샷을 훑어 비우지 않고 ttl이 지나 다시 조회될 때 반영된다
+        this.kakaoFriendSnapshots = new LruCache<>(maxSnapshotIds, KakaoFriendSnapshot::weight,
+            Duration.ofSeconds(snapshotTtlSeconds));
+    }
+
+    public long[] getFriendIds(Long hostUserId) {
+        return friendIds.get(hostUserId, id -> friendRepository.findFriendUserIdsByHostUserId(id).stream()
+            .mapToLong(Long::longValue)
+            .toArray());
+    }
+
+    public List<UserModel.PickedInfo> getPickedInfos(long[] userIds) {
+        UserModel.PickedInfo[] infos = new UserModel.PickedInfo[userIds.length];
+        List<Long> missingIds = new ArrayList<>();
+        for (int i = 0; i < userIds.length; i++) {
+            infos[i] = pickedInfos.getIfPresent(userIds[i]);
+            if (infos[i] == null) {
+                missingIds.add(userIds[i]);
+            }
+        }
+
+        // 캐시에 없는 유저만 한 번에 조회
+        if (!missingIds.isEmpty()) {
+            Map<Long, UserModel.PickedInfo> loaded = userRepository.findByIdIn(missingIds).stream()
+                .map(UserModel.PickedInfo::from)
+                .collect(Collectors.toMap(UserModel.PickedInfo::userId, Function.identity()));
+            loaded.forEach(pickedInfos::put);
+            for (int i = 0; i < userIds.length; i++) {
+                if (infos[i] == null) {
+                    infos[i] = loaded.get(userIds[i]);
+                }
+            }
+        }
+
+        return Arrays.stream(infos)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    public void evict(Long hostUserId) {
+        friendIds.invalidate(hostUserId);
+    }
+
+    public void evictPickedInfo(Long userId) {
+        pickedInfos.invalidate(userId);
+    }
+
+    public KakaoFriendSnapshot getKakaoFriendSnapshot(Long userId) {
+        return kakaoFriendSnapshots.getIfPresent(userId);
+    }
+
+    public void putKakaoFriendSnapshot(Long userId, KakaoFriendSnapshot snapshot) {
+        kakaoFriendSnapshots.put(userId, snapshot);
+    }
+
+    @Override
+    public Map<String, CacheStats> stats() {
+        return Map.of(
+            "friendIds", friendIds.stats(),
+            "pickedInfos", pickedInfos.stats(),
+            "kakaoFriendSnapshots", kakaoFriendSnapshots.stats()
+        );
+    }
+}
@@ -0,0 +1,27 @@
+package supernova.whokie.friend.infrastructure.cache;
+
+import java.util.Arrays;
+import java.util.List;
+
+// 카카오 친구 목록의 kakao id(정렬)와, 그 목록 중 가입한 유저의 user id
+public record KakaoFriendSnapshot(
+    long[] kakaoIds,
+    long[] friendUserIds
+) {
+
+    // 순서와 무관하게 같은 kakao id 집합이면 같은 배열이 되도록 정렬한다
+    public static long[] sortedKakaoIds(List<Long> kakaoIds) {
+        return kakaoIds.stream()
+            .mapToLong(Long::longValue)
+            .sorted()
+            .toArray();
+    }
+
+    public boolean matches(long[] sortedKakaoIds) {
+        return Arrays.equals(kakaoIds, sortedKakaoIds);
+    }
+
+    public long weight() {
+        return kakaoIds.length + friendUserIds.length + 1;
+    }
+}
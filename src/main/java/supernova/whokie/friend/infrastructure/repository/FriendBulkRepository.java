@@ -0,0 +1,56 @@
+package supernova.whokie.friend.infrastructure.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import supernova.whokie.global.util.LongArrayList;
+
+@Timed("whokie.repository")
+@Repository
+@RequiredArgsConstructor
+public class FriendBulkRepository {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO friend (host_user_id, friend_user_id) VALUES (?, ?)";
+    private static final String DELETE_SQL =
+        "DELETE FROM friend WHERE host_user_id = ? AND friend_user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // IDENTITY 전략에서는 Hibernate가 insert를 묶지 못하므로 JDBC batch로 직접 넣는다
+    @Transactional
+    public void saveAll(long hostUserId, LongArrayList friendUserIds) {
+        if (friendUserIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, new HostFriendSetter(hostUserId, friendUserIds));
+    }
+
+    @Transactional
+    public void deleteAll(long hostUserId, LongArrayList friendUserIds) {
+        if (friendUserIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(DELETE_SQL, new HostFriendSetter(hostUserId, friendUserIds));
+    }
+
+    // 행마다 Object[]를 만들지 않고 long을 그대로 바인딩한다
+    private record HostFriendSetter(long hostUserId, LongArrayList friendUserIds) implements BatchPreparedStatementSetter {
+
+        @Override
+        public void setValues(PreparedStatement ps, int i) throws SQLException {
+            ps.setLong(1, hostUserId);
+            ps.setLong(2, friendUserIds.get(i));
+        }
+
+        @Override
+        public int getBatchSize() {
+            return friendUserIds.size();
+        }
+    }
+}
@@ -1,11 +1,9 @@
 package supernova.whokie.friend.infrastructure.repository;
 
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import supernova.whokie.friend.Friend;
-import supernova.whokie.user.Users;
 
 import java.util.List;
 
@@ -15,9 +13,7 @@ public interface FriendRepository extends JpaRepository<Friend, Long> {
 
     void deleteByIdIn(List<Long> ids);
 
-    @Query("SELECT f FROM Friend f WHERE f.hostUser.id = :userId ORDER BY function('RAND')")
-    List<Friend> findRandomFriendsByHostUser(@Param("userId") Long userId, Pageable pageable);
-
-    List<Friend> findAllByHostUser(Users user);
+    @Query("SELECT f.friendUser.id FROM Friend f WHERE f.hostUser.id = :hostUserId")
+    List<Long> findFriendUserIdsByHostUserId(@Param("hostUserId") Long hostUserId);
 }
 
@@ -1,96 +1,144 @@
 package supernova.whokie.friend.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.AllArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import supernova.whokie.friend.Friend;
 import supernova.whokie.friend.event.FriendEventDto;
 import supernova.whokie.friend.infrastructure.apiCaller.FriendKakaoApiCaller;
 import supernova.whokie.friend.infrastructure.apiCaller.dto.KakaoDto;
+import supernova.whokie.friend.infrastructure.cache.FriendGraphCache;
+import supernova.whokie.friend.infrastructure.cache.KakaoFriendSnapshot;
+import supernova.whokie.friend.infrastructure.repository.FriendBulkRepository;
 import supernova.whokie.friend.infrastructure.repository.FriendRepository;
 import supernova.whokie.friend.service.dto.FriendCommand;
 import supernova.whokie.friend.service.dto.FriendModel;
 import supernova.whokie.global.exception.EntityNotFoundException;
-import supernova.whokie.user.Users;
+import supernova.whokie.global.util.LongArrayList;
+import supernova.whokie.global.util.LongHashSet;
 import supernova.whokie.user.infrastructure.repository.UserRepository;
+import supernova.whokie.user.service.dto.UserModel;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
 
+@Timed("whokie.service")
 @Service
 @AllArgsConstructor
 public class FriendService {
+    private static final int KAKAO_ID_CHUNK_SIZE = 500;
+
     private final FriendKakaoApiCaller apiCaller;
     private final UserRepository userRepository;
     private final FriendRepository friendRepository;
+    private final FriendBulkRepository friendBulkRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final FriendGraphCache friendGraphCache;
 
-    @Transactional
-    public List<FriendModel.Info> getKakaoFriends(Long userId) {
+    // 카카오 응답은 kakaoApiExecutor에서 기다리고, 가입 유저 매칭은 마지막 페이지를 받은 스레드에서 이어서 한다.
+    // 요청 스레드를 붙잡지 않으므로 트랜잭션 없이 리포지토리 호출마다 읽기 트랜잭션을 쓴다
+    public CompletableFuture<List<FriendModel.Info>> getKakaoFriends(Long userId) {
         // userId로 kakaoAccessToken 조회
         String accessToken = "testwsetest";
-        List<KakaoDto.Profile> profiles = apiCaller.getKakaoFriends(accessToken).elements();
-        List<Long> kakaoId = profiles.stream().map(KakaoDto.Profile::id).toList();
-        List<Users> friendUsers = userRepository.findByKakaoIdIn(kakaoId);
+        return apiCaller.getAllKakaoFriends(accessToken)
+                .thenApply(profiles -> matchKakaoFriends(userId, profiles.stream()
+                        .map(KakaoDto.Profile::id)
+                        .toList()));
+    }
 
-        // 사용자의 모든 Friend 조회
-        List<Friend> existingList = friendRepository.findByHostUserIdFetchJoin(userId);
-        Set<Long> existingSet = extractFriendUserIdAsSet(existingList);
+    private List<FriendModel.Info> matchKakaoFriends(Long userId, List<Long> kakaoIds) {
+        // 카카오 친구 목록이 지난 조회와 같으면 가입 유저 조회를 건너뛴다
+        long[] sortedKakaoIds = KakaoFriendSnapshot.sortedKakaoIds(kakaoIds);
+        KakaoFriendSnapshot snapshot = friendGraphCache.getKakaoFriendSnapshot(userId);
+        List<UserModel.PickedInfo> friendUsers;
+        if (snapshot != null && snapshot.matches(sortedKakaoIds)) {
+            friendUsers = friendGraphCache.getPickedInfos(snapshot.friendUserIds());
+        } else {
+            friendUsers = findUsersByKakaoIds(kakaoIds);
+            long[] friendUserIds = friendUsers.stream().mapToLong(UserModel.PickedInfo::userId).toArray();
+            friendGraphCache.putKakaoFriendSnapshot(userId, new KakaoFriendSnapshot(sortedKakaoIds, friendUserIds));
+        }
+
+        // 사용자의 모든 친구 id 조회
+        LongHashSet existingSet = LongHashSet.of(friendGraphCache.getFriendIds(userId));
 
         return friendUsers.stream()
-                .map(user -> FriendModel.Info.from(user, existingSet.contains(user.getId())))
+                .map(user -> FriendModel.Info.from(user, existingSet.contains(user.userId())))
                 .toList();
     }
 
-    @Transactional(readOnly = true)
-    public void updateFriends(Long userId, FriendCommand.Update command) {
-        // 사용자의 모든 Friend 조회
-        List<Friend> existingFriends = friendRepository.findByHostUserIdFetchJoin(userId);
-
-        // 비동기로 친구 삭제 및 저장
-        eventPublisher.publishEvent(FriendEventDto.Update.toDto(userId, command, existingFriends));
+    // IN 절이 너무 길어지지 않도록 나눠서 조회한다
+    private List<UserModel.PickedInfo> findUsersByKakaoIds(List<Long> kakaoIds) {
+        List<UserModel.PickedInfo> users = new ArrayList<>();
+        for (int from = 0; from < kakaoIds.size(); from += KAKAO_ID_CHUNK_SIZE) {
+            List<Long> chunk = kakaoIds.subList(from, Math.min(from + KAKAO_ID_CHUNK_SIZE, kakaoIds.size()));
+            userRepository.findByKakaoIdIn(chunk).stream()
+                    .map(UserModel.PickedInfo::from)
+                    .forEach(users::add);
+        }
+        return users;
     }
 
-    @Transactional
-    public void saveFriends(Long hostId, FriendCommand.Update command, List<Friend> existingFriends) {
-        Users host = userRepository.findById(hostId)
-                .orElseThrow(()-> new EntityNotFoundException("User not found."));
-        // 새로운 Friend 필터링
-        List<Long> newFriendIds = filteringNewFriendUserIds(command.friendIds(), existingFriends);
-
-        // 새로운 친구 Users 조회
-        List<Users> friendUsers = userRepository.findByIdIn(newFriendIds);
+    @Transactional(readOnly = true)
+    public void updateFriends(Long userId, FriendCommand.Update command) {
+        if (!userRepository.existsById(userId)) {
+            throw new EntityNotFoundException("User not found.");
+        }
 
-        // 새로운 Friends 저장
-        friendRepository.saveAll(command.toEntity(host, friendUsers));
+        // 비동기로 친구 목록 동기화
+        eventPublisher.publishEvent(FriendEventDto.Update.toDto(userId, command));
     }
 
-    @Transactional
-    public void deleteFriends(FriendCommand.Update command, List<Friend> existingFriends) {
-        // 삭제할 Friend 필터링
-        List<Long> deleteFriendIds = filteringDeleteFriendUserIds(command.friendIds(), existingFriends);
-
-        // Friends 삭제
-        friendRepository.deleteByIdIn(deleteFriendIds);
+    // 요청 목록과 현재 목록의 차이만 한 트랜잭션에서 반영하므로 같은 요청을 다시 적용해도 결과가 같다.
+    // 풀이 가득 차면 AFTER_COMMIT 리스너의 요청 스레드에서 바로 실행되는데, 그때 남아 있는 커밋된 읽기 전용 트랜잭션에 합류하지 않도록 새로 연다
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void syncFriends(Long hostId, FriendCommand.Update command) {
+        LongHashSet requestedIds = LongHashSet.from(command.friendIds());
+        LongHashSet existingIds = LongHashSet.from(friendRepository.findFriendUserIdsByHostUserId(hostId));
+
+        LongArrayList deleteFriendIds = filteringDeleteFriendUserIds(requestedIds, existingIds);
+        LongArrayList newFriendIds = filteringNewFriendUserIds(requestedIds, existingIds);
+        if (deleteFriendIds.isEmpty() && newFriendIds.isEmpty()) {
+            return;
+        }
+
+        // 존재하지 않는 user id는 저장하지 않는다
+        LongArrayList newFriendUserIds = newFriendIds.isEmpty()
+                ? newFriendIds
+                : LongArrayList.from(userRepository.findIdsByIdIn(newFriendIds.boxed()));
+
+        friendBulkRepository.deleteAll(hostId, deleteFriendIds);
+        friendBulkRepository.saveAll(hostId, newFriendUserIds);
+        eventPublisher.publishEvent(FriendEventDto.Changed.toDto(hostId));
     }
 
-    public List<Long> filteringNewFriendUserIds(List<Long> friendUserIds, List<Friend> existingFriends) {
-        List<Long> existingFriendIds = existingFriends.stream().map(Friend::getFriendUserId).toList();
-        return friendUserIds.stream()
-                .filter(id -> !existingFriendIds.contains(id))
-                .toList();
+    public LongArrayList filteringNewFriendUserIds(LongHashSet friendUserIds, LongHashSet existingFriendUserIds) {
+        LongArrayList newIds = new LongArrayList();
+        friendUserIds.forEach(id -> {
+            if (!existingFriendUserIds.contains(id)) {
+                newIds.add(id);
+            }
+        });
+        return newIds;
     }
 
-    public List<Long> filteringDeleteFriendUserIds(List<Long> friendUserIds, List<Friend> existingFriends) {
-        return existingFriends.stream()
-                .filter(friend -> !friendUserIds.contains(friend.getFriendUserId()))
-                .map(Friend::getId)
-                .toList();
+    public LongArrayList filteringDeleteFriendUserIds(LongHashSet friendUserIds, LongHashSet existingFriendUserIds) {
+        LongArrayList deleteIds = new LongArrayList();
+        existingFriendUserIds.forEach(id -> {
+            if (!friendUserIds.contains(id)) {
+                deleteIds.add(id);
+            }
+        });
+        return deleteIds;
     }
 
-    public Set<Long> extractFriendUserIdAsSet(List<Friend> friends) {
-        return friends.stream().map(Friend::getFriendUserId).collect(Collectors.toSet());
+    public LongHashSet extractFriendUserIdAsSet(List<Friend> friends) {
+        LongHashSet friendUserIds = new LongHashSet(friends.size());
+        friends.forEach(friend -> friendUserIds.add(friend.getFriendUserId()));
+        return friendUserIds;
     }
 }
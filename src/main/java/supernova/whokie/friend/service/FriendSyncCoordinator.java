@@ -0,0 +1,60 @@
+package supernova.whokie.friend.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import supernova.whokie.friend.service.dto.FriendCommand;
+import supernova.whokie.global.config.AsyncConfig;
+
+// 같은 host의 친구 동기화는 한 번에 하나만 실행하고, 밀린 요청은 가장 마지막 것만 반영한다
+@Component
+public class FriendSyncCoordinator {
+
+    private static final Logger log = LoggerFactory.getLogger(FriendSyncCoordinator.class);
+
+    private final FriendService friendService;
+    private final Executor friendExecutor;
+    // key: host user id, value: 아직 반영하지 않은 가장 최근 요청
+    private final Map<Long, FriendCommand.Update> pending = new ConcurrentHashMap<>();
+
+    public FriendSyncCoordinator(
+        FriendService friendService,
+        @Qualifier(AsyncConfig.FRIEND_EXECUTOR) Executor friendExecutor
+    ) {
+        this.friendService = friendService;
+        this.friendExecutor = friendExecutor;
+    }
+
+    public void submit(Long hostId, FriendCommand.Update command) {
+        // 이미 대기 중인 요청이 있으면 실행 중인 작업이 새 요청을 이어서 처리한다
+        if (pending.put(hostId, command) != null) {
+            return;
+        }
+        try {
+            friendExecutor.execute(() -> drain(hostId));
+        } catch (RuntimeException e) {
+            // 대기 항목이 남으면 이 host의 이후 요청이 모두 실행 중인 작업을 기다리기만 하므로 지운다
+            pending.remove(hostId);
+            log.error("Friend sync rejected - hostId: {}", hostId, e);
+        }
+    }
+
+    private void drain(Long hostId) {
+        while (true) {
+            FriendCommand.Update command = pending.get(hostId);
+            try {
+                friendService.syncFriends(hostId, command);
+            } catch (RuntimeException e) {
+                log.error("Friend sync failed - hostId: {}", hostId, e);
+            }
+            // 처리하는 동안 새 요청이 들어왔다면 remove가 실패하고 한 번 더 반영한다
+            if (pending.remove(hostId, command)) {
+                return;
+            }
+        }
+    }
+}
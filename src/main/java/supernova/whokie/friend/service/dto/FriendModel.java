@@ -2,6 +2,7 @@ package supernova.whokie.friend.service.dto;
 
 import lombok.Builder;
 import supernova.whokie.user.Users;
+import supernova.whokie.user.service.dto.UserModel;
 
 public class FriendModel {
 
@@ -21,5 +22,14 @@ public class FriendModel {
                     .isFriend(isFriend)
                     .build();
         }
+
+        public static Info from(UserModel.PickedInfo user, boolean isFriend) {
+            return Info.builder()
+                    .friendId(user.userId())
+                    .name(user.name())
+                    .imageUrl(user.imageUrl())
+                    .isFriend(isFriend)
+                    .build();
+        }
     }
 }
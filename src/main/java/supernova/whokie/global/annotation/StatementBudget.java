@@ -0,0 +1,14 @@
+package supernova.whokie.global.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 요청 하나가 실행할 수 있는 SQL 수의 상한. 지정하지 않은 엔드포인트는 statement-budget-default 를 따른다
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface StatementBudget {
+
+    int value();
+}
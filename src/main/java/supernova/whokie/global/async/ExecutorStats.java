@@ -0,0 +1,19 @@
+package supernova.whokie.global.async;
+
+import lombok.Builder;
+
+@Builder
+public record ExecutorStats(
+    String name,
+    int poolSize,
+    int activeCount,
+    int queueDepth,
+    int queueCapacity,
+    long completed,
+    long callerRuns,
+    double avgQueueWaitMs,
+    double avgExecutionMs,
+    double maxLatencyMs
+) {
+
+}
@@ -0,0 +1,89 @@
+package supernova.whokie.global.async;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+// 큐 크기가 제한된 스레드 풀. 큐가 가득 차면 호출한 스레드에서 실행하고, 풀 상태와 작업 지연 시간을 기록한다
+public class InstrumentedTaskExecutor extends ThreadPoolTaskExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(InstrumentedTaskExecutor.class);
+
+    private final String name;
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder callerRuns = new LongAdder();
+    private final LongAdder queueWaitNanos = new LongAdder();
+    private final LongAdder executionNanos = new LongAdder();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+    public InstrumentedTaskExecutor(String name, int coreSize, int maxSize, int queueCapacity) {
+        this(name, coreSize, maxSize, queueCapacity, false);
+    }
+
+    // virtualThreads가 켜지면 풀의 동시 실행 한도와 큐 제한은 그대로 두고 작업만 virtual thread에서 실행한다
+    public InstrumentedTaskExecutor(String name, int coreSize, int maxSize, int queueCapacity, boolean virtualThreads) {
+        this.name = name;
+        setThreadNamePrefix(name + "-");
+        if (virtualThreads) {
+            setThreadFactory(Thread.ofVirtual().name(name + "-virtual-", 0).factory());
+        }
+        setCorePoolSize(coreSize);
+        setMaxPoolSize(maxSize);
+        setQueueCapacity(queueCapacity);
+        setWaitForTasksToCompleteOnShutdown(true);
+        setAwaitTerminationSeconds(10);
+        setTaskDecorator(this::measure);
+        setRejectedExecutionHandler((task, executor) -> {
+            // 종료 중에 들어온 작업도 버리지 않고 호출한 스레드에서 실행한다
+            if (executor.isShutdown()) {
+                log.warn("Executor {} is shut down - running task on caller thread", name);
+            }
+            callerRuns.increment();
+            task.run();
+        });
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public ExecutorStats stats() {
+        long count = completed.sum();
+        return ExecutorStats.builder()
+            .name(name)
+            .poolSize(getPoolSize())
+            .activeCount(getActiveCount())
+            .queueDepth(getQueueSize())
+            .queueCapacity(getQueueCapacity())
+            .completed(count)
+            .callerRuns(callerRuns.sum())
+            .avgQueueWaitMs(count == 0 ? 0.0 : toMillis(queueWaitNanos.sum()) / count)
+            .avgExecutionMs(count == 0 ? 0.0 : toMillis(executionNanos.sum()) / count)
+            .maxLatencyMs(toMillis(maxLatencyNanos.get()))
+            .build();
+    }
+
+    // 제출 시점부터 대기 시간과 실행 시간을 나누어 잰다
+    private Runnable measure(Runnable task) {
+        long submittedAt = System.nanoTime();
+        return () -> {
+            long startedAt = System.nanoTime();
+            try {
+                task.run();
+            } finally {
+                long finishedAt = System.nanoTime();
+                completed.increment();
+                queueWaitNanos.add(startedAt - submittedAt);
+                executionNanos.add(finishedAt - startedAt);
+                maxLatencyNanos.accumulateAndGet(finishedAt - submittedAt, Math::max);
+            }
+        };
+    }
+
+    private static double toMillis(long nanos) {
+        return (double) nanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
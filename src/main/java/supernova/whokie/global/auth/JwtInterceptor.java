@@ -1,6 +1,5 @@
 package supernova.whokie.global.auth;
 
-import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.web.servlet.HandlerInterceptor;
@@ -27,11 +26,9 @@ public class JwtInterceptor implements HandlerInterceptor {
             throw new AuthenticationException("Invalid Token");
         }
 
-        Claims claim = jwtProvider.getClaim(authHeader.substring(7));
-        request.setAttribute("userId", claim.getSubject());
-        request.setAttribute("role", claim.get("role"));
-
-        System.out.println("userId: " + claim.getSubject());
+        TokenClaims claims = jwtProvider.verify(authHeader.substring(TOKEN_PREFIX.length()));
+        request.setAttribute("userId", claims.userId());
+        request.setAttribute("role", claims.role());
         return true;
     }
 }
@@ -3,22 +3,44 @@ package supernova.whokie.global.auth;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.io.Decoders;
+import java.security.Key;
 import java.util.Date;
+import java.util.Map;
+import javax.crypto.spec.SecretKeySpec;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import supernova.whokie.global.cache.CacheStats;
+import supernova.whokie.global.cache.CacheStatsSource;
+import supernova.whokie.global.cache.LruCache;
 import supernova.whokie.user.Role;
 
 @Component
-public class JwtProvider {
+public class JwtProvider implements CacheStatsSource {
 
-    @Value("${jwt.secret}")
-    private String secretKey;
     private final long validityInMilliseconds = 60 * 60 * 1000;
 
+    // 키 디코딩과 파서 생성은 한 번만 한다. 파서는 불변이라 여러 스레드에서 공유해도 된다
+    private final Key signingKey;
+    private final JwtParser parser;
+    // key: 토큰의 서명 부분. 서명이 같아도 나머지가 다르면 다시 검증한다
+    private final LruCache<String, VerifiedToken> verifiedTokens;
+
+    public JwtProvider(
+        @Value("${jwt.secret}") String secretKey,
+        @Value("${jwt-cache-max-size}") long maxCachedTokens
+    ) {
+        this.signingKey = new SecretKeySpec(Decoders.BASE64.decode(secretKey),
+            SignatureAlgorithm.HS256.getJcaName());
+        this.parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        this.verifiedTokens = LruCache.ofSize(maxCachedTokens);
+    }
+
     public String createToken(Long id, Role role) {
         Date now = new Date();
         Date validity = new Date(now.getTime() + validityInMilliseconds);
@@ -28,13 +50,13 @@ public class JwtProvider {
             .claim("role", role.name())
             .setIssuedAt(now)
             .setExpiration(validity)
-            .signWith(SignatureAlgorithm.HS256, secretKey)
+            .signWith(SignatureAlgorithm.HS256, signingKey)
             .compact();
     }
 
     public Claims getClaim(String token) {
         try {
-            return Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token).getBody();
+            return parser.parseClaimsJws(token).getBody();
         } catch (SecurityException | MalformedJwtException e) {
             throw new JwtException("유효하지 않은 토큰입니다.");
         } catch (ExpiredJwtException e) {
@@ -45,4 +67,37 @@ public class JwtProvider {
             throw new JwtException("토큰이 존재하지 않습니다.");
         }
     }
+
+    // 한 번 검증한 토큰은 만료 전까지 서명 검증 없이 캐시에서 돌려준다
+    public TokenClaims verify(String token) {
+        int signatureStart = token.lastIndexOf('.');
+        if (signatureStart < 0) {
+            return TokenClaims.from(getClaim(token));
+        }
+        String signature = token.substring(signatureStart + 1);
+
+        VerifiedToken cached = verifiedTokens.getIfPresent(signature);
+        if (cached != null && cached.matches(token, signatureStart)
+            && !cached.claims().isExpired(System.currentTimeMillis())) {
+            return cached.claims();
+        }
+
+        // 만료됐거나 처음 보는 토큰은 원래대로 검증하고 실패 시 예외를 그대로 던진다
+        TokenClaims claims = TokenClaims.from(getClaim(token));
+        verifiedTokens.put(signature, new VerifiedToken(token.substring(0, signatureStart), claims));
+        return claims;
+    }
+
+    @Override
+    public Map<String, CacheStats> stats() {
+        return Map.of("verifiedTokens", verifiedTokens.stats());
+    }
+
+    private record VerifiedToken(String headerAndPayload, TokenClaims claims) {
+
+        boolean matches(String token, int signatureStart) {
+            return signatureStart == headerAndPayload.length()
+                && token.regionMatches(0, headerAndPayload, 0, signatureStart);
+        }
+    }
 }
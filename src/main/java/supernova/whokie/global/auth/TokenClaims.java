@@ -0,0 +1,25 @@
+package supernova.whokie.global.auth;
+
+import io.jsonwebtoken.Claims;
+import lombok.Builder;
+
+// 검증이 끝난 토큰에서 인터셉터가 쓰는 값만 꺼내 둔 불변 스냅샷
+@Builder
+public record TokenClaims(
+    String userId,
+    String role,
+    long expiresAtMillis
+) {
+
+    public static TokenClaims from(Claims claims) {
+        return TokenClaims.builder()
+            .userId(claims.getSubject())
+            .role(claims.get("role", String.class))
+            .expiresAtMillis(claims.getExpiration() == null ? Long.MAX_VALUE : claims.getExpiration().getTime())
+            .build();
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+}
@@ -0,0 +1,19 @@
+package supernova.whokie.global.cache;
+
+import lombok.Builder;
+
+@Builder
+public record CacheStats(
+    long hits,
+    long misses,
+    long evictions,
+    long expirations,
+    long size,
+    long weight
+) {
+
+    public double hitRatio() {
+        long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+}
@@ -0,0 +1,9 @@
+package supernova.whokie.global.cache;
+
+import java.util.Map;
+
+// 모니터링에서 모아 보여줄 캐시들이 구현한다. key: 캐시 이름
+public interface CacheStatsSource {
+
+    Map<String, CacheStats> stats();
+}
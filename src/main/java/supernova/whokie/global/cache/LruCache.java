@@ -0,0 +1,288 @@
+package supernova.whokie.global.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
+
+// 가중치(원소 크기) 합으로 상한을 두는 LRU 캐시, ttl을 주면 만료된 항목은 미스로 처리한다
+// 키 해시로 나눈 세그먼트마다 락과 LRU 순서를 따로 두어, 서로 다른 키를 다루는 요청이 한 락에 줄 서지 않게 한다
+public class LruCache<K, V> {
+
+    private static final int MAX_SEGMENTS = 16;
+    // 세그먼트가 너무 작으면 LRU 순서가 세그먼트 안에서만 지켜지는 차이가 커지므로, 작은 캐시는 나누지 않는다
+    private static final long MIN_SEGMENT_WEIGHT = 1024;
+
+    private final List<Segment> segments;
+    private final ToLongFunction<V> weigher;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    public LruCache(long maxWeight, ToLongFunction<V> weigher) {
+        this(maxWeight, weigher, Duration.ZERO, System::nanoTime);
+    }
+
+    public LruCache(long maxWeight, ToLongFunction<V> weigher, Duration ttl) {
+        this(maxWeight, weigher, ttl, System::nanoTime);
+    }
+
+    // ttl이 0이면 만료하지 않는다
+    LruCache(long maxWeight, ToLongFunction<V> weigher, Duration ttl, LongSupplier clock) {
+        this.weigher = weigher;
+        this.ttlNanos = ttl.toNanos();
+        this.clock = clock;
+
+        int segmentCount = 1;
+        while (segmentCount < MAX_SEGMENTS && maxWeight / (segmentCount * 2L) >= MIN_SEGMENT_WEIGHT) {
+            segmentCount *= 2;
+        }
+        this.segments = new ArrayList<>(segmentCount);
+        for (int i = 0; i < segmentCount; i++) {
+            segments.add(new Segment(maxWeight / segmentCount));
+        }
+    }
+
+    public static <K, V> LruCache<K, V> ofSize(long maxSize) {
+        return new LruCache<>(maxSize, value -> 1);
+    }
+
+    public static <K, V> LruCache<K, V> ofSize(long maxSize, Duration ttl) {
+        return new LruCache<>(maxSize, value -> 1, ttl);
+    }
+
+    public V get(K key, Function<K, V> loader) {
+        Segment segment = segmentFor(key);
+        long stamp;
+        segment.lock.lock();
+        try {
+            V value = segment.getLive(key);
+            if (value != null) {
+                hits.increment();
+                return value;
+            }
+            misses.increment();
+            stamp = segment.invalidations;
+        } finally {
+            segment.lock.unlock();
+        }
+
+        // DB 조회는 락 밖에서 수행
+        V loaded = loader.apply(key);
+        segment.lock.lock();
+        try {
+            // 조회 도중 무효화가 있었다면 오래된 값일 수 있으므로 캐싱하지 않는다
+            if (stamp == segment.invalidations) {
+                segment.putInternal(key, loaded);
+            }
+        } finally {
+            segment.lock.unlock();
+        }
+        return loaded;
+    }
+
+    public V getIfPresent(K key) {
+        Segment segment = segmentFor(key);
+        V value;
+        segment.lock.lock();
+        try {
+            value = segment.getLive(key);
+        } finally {
+            segment.lock.unlock();
+        }
+        if (value == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return value;
+    }
+
+    public void put(K key, V value) {
+        Segment segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            segment.putInternal(key, value);
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    // 캐시에 있는 값만 갱신하고 만료 시각은 그대로 둔다
+    public void update(K key, UnaryOperator<V> updater) {
+        Segment segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            segment.invalidations++;
+            Entry<V> entry = segment.entries.get(key);
+            if (entry == null) {
+                return;
+            }
+            V updated = updater.apply(entry.value());
+            segment.weight += weigher.applyAsLong(updated) - weigher.applyAsLong(entry.value());
+            segment.entries.put(key, new Entry<>(updated, entry.expiresAt()));
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    // 현재 값이 expected일 때만 교체한다. 그 사이 무효화되거나 다른 값으로 바뀌었다면 새 값을 버린다
+    public boolean replace(K key, V expected, V value) {
+        Segment segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            if (segment.getLive(key) != expected) {
+                return false;
+            }
+            segment.putInternal(key, value);
+            return true;
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    // 조건에 맞는 살아있는 항목의 복사본. 접근 순서와 통계는 건드리지 않는다
+    // 세그먼트를 하나씩 잠그며 훑으므로 캐시 전체의 한 시점을 보장하지는 않는다
+    public Map<K, V> snapshot(Predicate<V> filter) {
+        Map<K, V> matched = new LinkedHashMap<>();
+        for (Segment segment : segments) {
+            segment.lock.lock();
+            try {
+                long now = clock.getAsLong();
+                segment.entries.forEach((key, entry) -> {
+                    boolean expired = ttlNanos > 0 && now - entry.expiresAt() >= 0;
+                    if (!expired && filter.test(entry.value())) {
+                        matched.put(key, entry.value());
+                    }
+                });
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return matched;
+    }
+
+    public void invalidate(K key) {
+        Segment segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            segment.invalidations++;
+            segment.removeInternal(key);
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        for (Segment segment : segments) {
+            segment.lock.lock();
+            try {
+                segment.invalidations++;
+                segment.entries.clear();
+                segment.weight = 0;
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+    }
+
+    public CacheStats stats() {
+        long size = 0;
+        long weight = 0;
+        for (Segment segment : segments) {
+            segment.lock.lock();
+            try {
+                size += segment.entries.size();
+                weight += segment.weight;
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return CacheStats.builder()
+            .hits(hits.sum())
+            .misses(misses.sum())
+            .evictions(evictions.sum())
+            .expirations(expirations.sum())
+            .size(size)
+            .weight(weight)
+            .build();
+    }
+
+    private Segment segmentFor(K key) {
+        int hash = key.hashCode();
+        return segments.get((hash ^ (hash >>> 16)) & (segments.size() - 1));
+    }
+
+    // 아래 필드와 메서드는 모두 lock을 잡은 채로 다룬다
+    private final class Segment {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private final long maxWeight;
+
+        private long weight;
+        private long invalidations;
+
+        private Segment(long maxWeight) {
+            this.maxWeight = maxWeight;
+        }
+
+        private V getLive(K key) {
+            Entry<V> entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (ttlNanos > 0 && clock.getAsLong() - entry.expiresAt() >= 0) {
+                removeInternal(key);
+                expirations.increment();
+                return null;
+            }
+            return entry.value();
+        }
+
+        private void removeInternal(K key) {
+            Entry<V> removed = entries.remove(key);
+            if (removed != null) {
+                weight -= weigher.applyAsLong(removed.value());
+            }
+        }
+
+        private void putInternal(K key, V value) {
+            long valueWeight = weigher.applyAsLong(value);
+            if (valueWeight > maxWeight) {
+                // 담을 수 없는 값이라도 이전 값을 남겨 두면 오래된 값을 돌려주게 된다
+                removeInternal(key);
+                return;
+            }
+            Entry<V> previous = entries.put(key, new Entry<>(value, clock.getAsLong() + ttlNanos));
+            if (previous != null) {
+                weight -= weigher.applyAsLong(previous.value());
+            }
+            weight += valueWeight;
+
+            Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+            while (weight > maxWeight && iterator.hasNext()) {
+                Map.Entry<K, Entry<V>> eldest = iterator.next();
+                weight -= weigher.applyAsLong(eldest.getValue().value());
+                iterator.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
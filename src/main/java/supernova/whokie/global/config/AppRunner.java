@@ -1,6 +1,8 @@
 package supernova.whokie.global.config;
 
 import java.util.Arrays;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.core.env.Environment;
@@ -9,6 +11,8 @@ import org.springframework.stereotype.Component;
 @Component
 public class AppRunner implements ApplicationRunner {
 
+    private static final Logger log = LoggerFactory.getLogger(AppRunner.class);
+
     private final Environment environment;
 
     public AppRunner(Environment environment) {
@@ -17,12 +21,8 @@ public class AppRunner implements ApplicationRunner {
 
     @Override
     public void run(ApplicationArguments args) {
-        System.out.println("===================활성화된 프로필===================");
-        System.out.println("Active profiles : " + Arrays.toString(environment.getActiveProfiles()));
-        System.out.println("db url : " + environment.getProperty("spring.datasource.url"));
-        System.out.println(
-            "db username : " + environment.getProperty("spring.datasource.username"));
-        System.out.println("secret key : " + environment.getProperty("jwt.secret"));
-
+        log.info("Active profiles : {}", Arrays.toString(environment.getActiveProfiles()));
+        log.info("db url : {}", environment.getProperty("spring.datasource.url"));
+        log.info("db username : {}", environment.getProperty("spring.datasource.username"));
     }
-}
\ No newline at end of file
+}
@@ -3,10 +3,12 @@ package supernova.whokie.global.config;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import supernova.whokie.global.async.InstrumentedTaskExecutor;
 import supernova.whokie.global.exception.GlobalExceptionHandler;
 
 import java.util.concurrent.Executor;
@@ -16,12 +18,45 @@ import java.util.concurrent.Executor;
 public class AsyncConfig implements AsyncConfigurer {
     private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+    public static final String FRIEND_EXECUTOR = "friendExecutor";
+    public static final String KAKAO_API_EXECUTOR = "kakaoApiExecutor";
+
+    @Value("${spring.threads.virtual.enabled}")
+    private boolean virtualThreads;
+    @Value("${async-executor-core-size}")
+    private int asyncCoreSize;
+    @Value("${async-executor-max-size}")
+    private int asyncMaxSize;
+    @Value("${async-executor-queue-capacity}")
+    private int asyncQueueCapacity;
+
+    @Bean
+    public InstrumentedTaskExecutor asyncExecutor() {
+        return new InstrumentedTaskExecutor("async", asyncCoreSize, asyncMaxSize, asyncQueueCapacity, virtualThreads);
+    }
+
+    @Bean(FRIEND_EXECUTOR)
+    public InstrumentedTaskExecutor friendExecutor(
+        @Value("${friend-executor-core-size}") int coreSize,
+        @Value("${friend-executor-max-size}") int maxSize,
+        @Value("${friend-executor-queue-capacity}") int queueCapacity
+    ) {
+        return new InstrumentedTaskExecutor("friend", coreSize, maxSize, queueCapacity, virtualThreads);
+    }
+
+    // 카카오 API 호출은 대부분 응답 대기이므로 스레드를 넉넉히 둔다
+    @Bean(KAKAO_API_EXECUTOR)
+    public InstrumentedTaskExecutor kakaoApiExecutor(
+        @Value("${kakao-api-executor-core-size}") int coreSize,
+        @Value("${kakao-api-executor-max-size}") int maxSize,
+        @Value("${kakao-api-executor-queue-capacity}") int queueCapacity
+    ) {
+        return new InstrumentedTaskExecutor("kakao-api", coreSize, maxSize, queueCapacity, virtualThreads);
+    }
+
     @Override
     public Executor getAsyncExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setThreadNamePrefix("Async-");
-        executor.initialize();
-        return executor;
+        return asyncExecutor();
     }
 
     @Override
@@ -1,25 +1,54 @@
 package supernova.whokie.global.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.ClientHttpRequestFactories;
 import org.springframework.boot.web.client.ClientHttpRequestFactorySettings;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
+import supernova.whokie.global.metrics.KakaoApiMetricsInterceptor;
 
+import java.net.http.HttpClient;
 import java.time.Duration;
+import java.util.concurrent.Executors;
 
 @Configuration
 public class RestClientConfig {
 
+    private static final Duration READ_TIMEOUT = Duration.ofSeconds(2);
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(5);
+
     @Bean
-    RestClient restClient() {
+    RestClient restClient(
+            @Value("${spring.threads.virtual.enabled}") boolean virtualThreads,
+            MeterRegistry meterRegistry
+    ) {
+        return RestClient.builder()
+                .requestFactory(virtualThreads ? virtualThreadRequestFactory() : platformRequestFactory())
+                .requestInterceptor(new KakaoApiMetricsInterceptor(meterRegistry))
+                .build();
+    }
+
+    private ClientHttpRequestFactory platformRequestFactory() {
         ClientHttpRequestFactorySettings settings = ClientHttpRequestFactorySettings
                 .DEFAULTS
-                .withReadTimeout(Duration.ofSeconds(2))
-                .withConnectTimeout(Duration.ofSeconds(5));
+                .withReadTimeout(READ_TIMEOUT)
+                .withConnectTimeout(CONNECT_TIMEOUT);
 
-        return RestClient.builder()
-                .requestFactory(ClientHttpRequestFactories.get(settings))
+        return ClientHttpRequestFactories.get(settings);
+    }
+
+    // JDK HttpClient는 내부 락이 virtual thread를 고정하지 않아서, 카카오 응답을 기다리는 동안 carrier를 반납한다
+    private ClientHttpRequestFactory virtualThreadRequestFactory() {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(CONNECT_TIMEOUT)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
                 .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(READ_TIMEOUT);
+        return requestFactory;
     }
 }
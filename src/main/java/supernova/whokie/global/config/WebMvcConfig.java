@@ -1,7 +1,10 @@
 package supernova.whokie.global.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
@@ -11,6 +14,8 @@ import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import supernova.whokie.global.auth.JwtInterceptor;
 import supernova.whokie.global.auth.JwtProvider;
+import supernova.whokie.global.metrics.StatementCounter;
+import supernova.whokie.global.metrics.StatementMetricsFilter;
 import supernova.whokie.global.resolver.LoginUserArgumentResolver;
 
 @Configuration
@@ -18,6 +23,8 @@ import supernova.whokie.global.resolver.LoginUserArgumentResolver;
 public class WebMvcConfig implements WebMvcConfigurer {
 
     private final JwtProvider jwtProvider;
+    private final StatementCounter statementCounter;
+    private final MeterRegistry meterRegistry;
 
     @Bean
     @Order(1)
@@ -25,6 +32,18 @@ public class WebMvcConfig implements WebMvcConfigurer {
         return new JwtInterceptor(jwtProvider);
     }
 
+    // 인터셉터보다 바깥에서 세어야 예산 초과 예외가 MockMvc 테스트까지 전달된다
+    @Bean
+    public FilterRegistrationBean<StatementMetricsFilter> statementMetricsFilter(
+        @Value("${statement-budget-default}") int defaultBudget,
+        @Value("${statement-budget-strict:false}") boolean strict
+    ) {
+        FilterRegistrationBean<StatementMetricsFilter> registration = new FilterRegistrationBean<>(
+            new StatementMetricsFilter(statementCounter, meterRegistry, defaultBudget, strict));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+
     @Bean
     public LoginUserArgumentResolver loginUserArgumentResolver() {
         return new LoginUserArgumentResolver();
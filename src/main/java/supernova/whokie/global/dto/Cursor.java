@@ -0,0 +1,35 @@
+package supernova.whokie.global.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import supernova.whokie.global.exception.InvalidEntityException;
+
+// (created_at, id) keyset 위치. 클라이언트에는 불투명한 문자열로만 내려준다
+public record Cursor(
+        LocalDateTime createdAt,
+        Long id
+) {
+    // 첫 페이지는 모든 행보다 앞선 위치에서 시작한다 (mysql DATETIME 최솟값)
+    private static final Cursor FIRST = new Cursor(LocalDateTime.of(1000, 1, 1, 0, 0), 0L);
+    private static final String DELIMITER = "_";
+
+    public static Cursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(DELIMITER);
+            return new Cursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException | ArrayIndexOutOfBoundsException e) {
+            throw new InvalidEntityException("잘못된 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
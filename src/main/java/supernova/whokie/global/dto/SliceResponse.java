@@ -0,0 +1,36 @@
+package supernova.whokie.global.dto;
+
+import java.util.List;
+import java.util.function.Function;
+import lombok.Builder;
+import org.springframework.data.domain.Slice;
+
+@Builder
+public record SliceResponse<T>(
+        List<T> content,
+        int size,
+        boolean hasNext,
+        String nextCursor
+) {
+    // count 쿼리 없이 size + 1개 조회 결과로 다음 페이지 여부와 커서를 만든다
+    public static <E, T> SliceResponse<T> from(Slice<E> slice, Function<E, T> mapper, Function<E, Cursor> cursorOf) {
+        List<E> content = slice.getContent();
+        String nextCursor = slice.hasNext() && !content.isEmpty()
+                ? cursorOf.apply(content.get(content.size() - 1)).encode()
+                : null;
+        return new SliceResponse<>(
+                content.stream().map(mapper).toList(),
+                slice.getSize(),
+                slice.hasNext(),
+                nextCursor
+        );
+    }
+
+    public static <T> SliceResponse<T> empty(int size) {
+        return new SliceResponse<>(List.of(), size, false, null);
+    }
+
+    public <R> SliceResponse<R> map(Function<T, R> mapper) {
+        return new SliceResponse<>(content.stream().map(mapper).toList(), size, hasNext, nextCursor);
+    }
+}
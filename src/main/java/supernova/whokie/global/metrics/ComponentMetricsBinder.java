@@ -0,0 +1,76 @@
+package supernova.whokie.global.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import supernova.whokie.global.async.InstrumentedTaskExecutor;
+import supernova.whokie.global.cache.CacheStats;
+import supernova.whokie.global.cache.CacheStatsSource;
+
+// executors, cachestats 엔드포인트에서 보던 스레드 풀, 캐시 통계를 스크랩 지표로도 내보낸다
+@Component
+@RequiredArgsConstructor
+public class ComponentMetricsBinder implements MeterBinder {
+
+    private final List<InstrumentedTaskExecutor> executors;
+    private final List<CacheStatsSource> caches;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        executors.forEach(executor -> bindExecutor(registry, executor));
+        caches.forEach(source -> source.stats().keySet()
+            .forEach(name -> bindCache(registry, source, name)));
+    }
+
+    private void bindExecutor(MeterRegistry registry, InstrumentedTaskExecutor executor) {
+        Tags tags = Tags.of("executor", executor.getName());
+        Gauge.builder("whokie.executor.pool.size", executor, InstrumentedTaskExecutor::getPoolSize)
+            .tags(tags).register(registry);
+        Gauge.builder("whokie.executor.active", executor, InstrumentedTaskExecutor::getActiveCount)
+            .tags(tags).register(registry);
+        Gauge.builder("whokie.executor.queued", executor, InstrumentedTaskExecutor::getQueueSize)
+            .tags(tags).register(registry);
+        FunctionCounter.builder("whokie.executor.caller.runs", executor, e -> e.stats().callerRuns())
+            .tags(tags).register(registry);
+        // 평균 대기/실행 시간에 완료 수를 곱해 누적 시간으로 되돌린다
+        FunctionTimer.builder("whokie.executor.queue.wait", executor,
+                e -> e.stats().completed(), e -> e.stats().avgQueueWaitMs() * e.stats().completed(),
+                TimeUnit.MILLISECONDS)
+            .tags(tags).register(registry);
+        FunctionTimer.builder("whokie.executor.execution", executor,
+                e -> e.stats().completed(), e -> e.stats().avgExecutionMs() * e.stats().completed(),
+                TimeUnit.MILLISECONDS)
+            .tags(tags).register(registry);
+    }
+
+    private void bindCache(MeterRegistry registry, CacheStatsSource source, String name) {
+        Tags tags = Tags.of("cache", name);
+        FunctionCounter.builder("whokie.cache.gets", source, stat(name, CacheStats::hits))
+            .tags(tags).tag("result", "hit").register(registry);
+        FunctionCounter.builder("whokie.cache.gets", source, stat(name, CacheStats::misses))
+            .tags(tags).tag("result", "miss").register(registry);
+        FunctionCounter.builder("whokie.cache.evictions", source, stat(name, CacheStats::evictions))
+            .tags(tags).register(registry);
+        FunctionCounter.builder("whokie.cache.expirations", source, stat(name, CacheStats::expirations))
+            .tags(tags).register(registry);
+        Gauge.builder("whokie.cache.size", source, stat(name, CacheStats::size))
+            .tags(tags).register(registry);
+        Gauge.builder("whokie.cache.weight", source, stat(name, CacheStats::weight))
+            .tags(tags).register(registry);
+    }
+
+    private static ToDoubleFunction<CacheStatsSource> stat(String name, ToDoubleFunction<CacheStats> field) {
+        return source -> {
+            CacheStats stats = source.stats().get(name);
+            return stats == null ? Double.NaN : field.applyAsDouble(stats);
+        };
+    }
+}
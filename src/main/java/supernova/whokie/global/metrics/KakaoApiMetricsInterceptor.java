@@ -0,0 +1,45 @@
+package supernova.whokie.global.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+// 카카오 API 호출 시간을 경로와 응답 코드별로 기록한다. 응답 헤더를 받은 시점까지를 잰다
+public class KakaoApiMetricsInterceptor implements ClientHttpRequestInterceptor {
+
+    private static final String IO_ERROR = "IO_ERROR";
+
+    private final MeterRegistry meterRegistry;
+
+    public KakaoApiMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+        throws IOException {
+        long startedAt = System.nanoTime();
+        String status = IO_ERROR;
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            status = String.valueOf(response.getStatusCode().value());
+            return response;
+        } finally {
+            URI uri = request.getURI();
+            Timer.builder("whokie.kakao.requests")
+                .description("Outbound Kakao API latency")
+                .tag("method", request.getMethod().name())
+                .tag("host", String.valueOf(uri.getHost()))
+                .tag("path", String.valueOf(uri.getPath()))
+                .tag("status", status)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+}
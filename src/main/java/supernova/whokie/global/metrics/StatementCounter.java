@@ -0,0 +1,38 @@
+package supernova.whokie.global.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Hibernate가 실행하는 SQL 수를 요청 스레드 단위로 센다. begin() 하지 않은 스레드(스케줄러, 비동기 작업)는 세지 않는다
+public class StatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<Count> CURRENT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        Count count = CURRENT.get();
+        if (count != null) {
+            count.value++;
+        }
+        return sql;
+    }
+
+    public void begin() {
+        CURRENT.set(new Count());
+    }
+
+    public int current() {
+        Count count = CURRENT.get();
+        return count == null ? 0 : count.value;
+    }
+
+    public int end() {
+        int value = current();
+        CURRENT.remove();
+        return value;
+    }
+
+    private static class Count {
+
+        private int value;
+    }
+}
@@ -0,0 +1,87 @@
+package supernova.whokie.global.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import supernova.whokie.global.annotation.StatementBudget;
+
+// 요청 하나가 실행한 SQL 수를 엔드포인트별 분포로 기록하고, 예산을 넘으면 경고를 남긴다
+// strict 모드(통합 테스트의 statement-budget-strict=true)에서는 예외를 던져 N+1 회귀가 배포 전에 드러나게 한다
+public class StatementMetricsFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(StatementMetricsFilter.class);
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final StatementCounter statementCounter;
+    private final MeterRegistry meterRegistry;
+    private final int defaultBudget;
+    private final boolean strict;
+
+    public StatementMetricsFilter(StatementCounter statementCounter, MeterRegistry meterRegistry,
+        int defaultBudget, boolean strict) {
+        this.statementCounter = statementCounter;
+        this.meterRegistry = meterRegistry;
+        this.defaultBudget = defaultBudget;
+        this.strict = strict;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        statementCounter.begin();
+        int statements;
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            statements = statementCounter.end();
+            DistributionSummary.builder("whokie.http.statements")
+                .description("SQL statements executed per request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri(request))
+                .register(meterRegistry)
+                .record(statements);
+        }
+        checkBudget(request, statements);
+    }
+
+    private void checkBudget(HttpServletRequest request, int statements) {
+        int budget = budget(request);
+        if (statements <= budget) {
+            return;
+        }
+        meterRegistry.counter("whokie.http.statements.over.budget",
+            "method", request.getMethod(), "uri", uri(request)).increment();
+
+        String endpoint = request.getMethod() + " " + uri(request);
+        if (strict) {
+            throw new IllegalStateException(String.format(
+                "SQL statement budget exceeded - %s executed %d statements (budget %d)", endpoint, statements, budget));
+        }
+        log.warn("SQL statement budget exceeded - {} executed {} statements (budget {})", endpoint, statements, budget);
+    }
+
+    private int budget(HttpServletRequest request) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (handler instanceof HandlerMethod handlerMethod) {
+            StatementBudget budget = handlerMethod.getMethodAnnotation(StatementBudget.class);
+            if (budget != null) {
+                return budget.value();
+            }
+        }
+        return defaultBudget;
+    }
+
+    private static String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? UNKNOWN_URI : pattern.toString();
+    }
+}
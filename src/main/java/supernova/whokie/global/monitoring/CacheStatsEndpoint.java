@@ -0,0 +1,26 @@
+package supernova.whokie.global.monitoring;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+import supernova.whokie.global.cache.CacheStats;
+import supernova.whokie.global.cache.CacheStatsSource;
+
+// Spring 캐시용 기본 caches 엔드포인트와 겹치지 않도록 cachestats로 둔다
+@Component
+@Endpoint(id = "cachestats")
+@AllArgsConstructor
+public class CacheStatsEndpoint {
+    private final List<CacheStatsSource> caches;
+
+    @ReadOperation
+    public Map<String, CacheStats> getCacheStats() {
+        Map<String, CacheStats> stats = new TreeMap<>();
+        caches.forEach(cache -> stats.putAll(cache.stats()));
+        return stats;
+    }
+}
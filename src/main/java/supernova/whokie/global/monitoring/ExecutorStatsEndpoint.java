@@ -0,0 +1,24 @@
+package supernova.whokie.global.monitoring;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+import supernova.whokie.global.async.ExecutorStats;
+import supernova.whokie.global.async.InstrumentedTaskExecutor;
+
+// 외부에 열지 않는 management 포트의 /actuator/executors 에서만 보인다
+@Component
+@Endpoint(id = "executors")
+@AllArgsConstructor
+public class ExecutorStatsEndpoint {
+    private final List<InstrumentedTaskExecutor> executors;
+
+    @ReadOperation
+    public List<ExecutorStats> getExecutorStats() {
+        return executors.stream()
+            .map(InstrumentedTaskExecutor::stats)
+            .toList();
+    }
+}
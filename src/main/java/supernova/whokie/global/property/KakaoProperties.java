@@ -8,7 +8,8 @@ public record KakaoProperties(
     String clientId,
     String authUrl,
     String tokenUrl,
-    String userInfoUrl
+    String userInfoUrl,
+    String friendsUrl
 ) {
 
 }
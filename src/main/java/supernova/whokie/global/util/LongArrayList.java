@@ -0,0 +1,59 @@
+package supernova.whokie.global.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+// long을 박싱하지 않고 담는 가변 길이 배열. 스레드 안전하지 않다
+public final class LongArrayList {
+
+    private long[] values;
+    private int size;
+
+    public LongArrayList() {
+        this(8);
+    }
+
+    public LongArrayList(int initialCapacity) {
+        this.values = new long[Math.max(initialCapacity, 1)];
+    }
+
+    public static LongArrayList from(Collection<Long> values) {
+        LongArrayList list = new LongArrayList(values.size());
+        for (Long value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    public void add(long value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, values.length * 2);
+        }
+        values[size++] = value;
+    }
+
+    public long get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return values[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    // JPA 쿼리 파라미터처럼 박싱된 컬렉션이 필요한 경계에서만 쓴다
+    public List<Long> boxed() {
+        return Arrays.stream(values, 0, size).boxed().toList();
+    }
+}
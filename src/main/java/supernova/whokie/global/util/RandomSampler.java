@@ -0,0 +1,39 @@
+package supernova.whokie.global.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+public final class RandomSampler {
+
+    private RandomSampler() {}
+
+    // Floyd 샘플링: 전체 크기와 무관하게 O(k)로 중복 없는 k개를 뽑는다
+    public static List<Long> sample(long[] ids, int limit) {
+        int count = Math.min(limit, ids.length);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        LongHashSet picked = new LongHashSet(count);
+        for (int j = ids.length - count; j < ids.length; j++) {
+            int t = random.nextInt(j + 1);
+            if (!picked.add(t)) {
+                picked.add(j);
+            }
+        }
+
+        List<Long> result = new ArrayList<>(count);
+        picked.forEach(index -> result.add(ids[(int) index]));
+        Collections.shuffle(result, random);
+        return result;
+    }
+
+    // excludedId 를 뺀 나머지에서 뽑는다. 하나 더 뽑은 뒤 excludedId 가 있으면 빼고, 없으면 마지막 하나를 버린다
+    public static List<Long> sampleExcluding(long[] ids, int limit, long excludedId) {
+        List<Long> sampled = sample(ids, limit + 1);
+        if (!sampled.remove(Long.valueOf(excludedId)) && sampled.size() > limit) {
+            sampled.remove(sampled.size() - 1);
+        }
+        return sampled;
+    }
+}
@@ -19,6 +19,7 @@ import supernova.whokie.user.Users;
 @AllArgsConstructor
 @Getter
 @Entity
+@Table(indexes = @Index(name = "idx_group_member_group_user", columnList = "group_id, user_id"))
 public class GroupMember extends BaseTimeEntity {
 
     @Id
@@ -6,6 +6,7 @@ import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 import supernova.whokie.global.annotation.Authenticate;
+import supernova.whokie.global.annotation.StatementBudget;
 import supernova.whokie.global.dto.GlobalResponse;
 import supernova.whokie.group_member.GroupRole;
 import supernova.whokie.group_member.controller.dto.GroupMemberRequest;
@@ -43,6 +44,7 @@ public class GroupMemberController {
     }
 
     @GetMapping("/{group-id}/member")
+    @StatementBudget(1)
     public GroupMemberResponse.Members getGroupMemberList(
         @PathVariable("group-id") @NotNull @Min(1) Long groupId,
         @Authenticate Long userId
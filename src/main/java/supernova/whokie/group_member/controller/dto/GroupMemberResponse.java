@@ -3,6 +3,7 @@ package supernova.whokie.group_member.controller.dto;
 import lombok.Builder;
 import supernova.whokie.group_member.GroupMember;
 import supernova.whokie.group_member.GroupRole;
+import supernova.whokie.group_member.GroupStatus;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -32,7 +33,9 @@ public class GroupMemberResponse {
             Long groupMemberId,
             Long userId,
             GroupRole role,
+            GroupStatus status,
             String userName,
+            String imageUrl,
             LocalDate joinedAt
     ) {
 
@@ -41,7 +44,9 @@ public class GroupMemberResponse {
                 .groupMemberId(model.groupMemberId())
                 .userId(model.userId())
                 .role(model.role())
+                .status(model.status())
                 .userName(model.userName())
+                .imageUrl(model.imageUrl())
                 .joinedAt(model.joinedAt())
                 .build();
         }
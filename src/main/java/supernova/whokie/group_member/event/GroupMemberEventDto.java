@@ -0,0 +1,17 @@
+package supernova.whokie.group_member.event;
+
+import lombok.Builder;
+
+public class GroupMemberEventDto {
+
+    @Builder
+    public record Changed(
+        Long groupId
+    ) {
+        public static GroupMemberEventDto.Changed toDto(Long groupId) {
+            return Changed.builder()
+                    .groupId(groupId)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package supernova.whokie.group_member.event;
+
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import supernova.whokie.group_member.infrastructure.cache.GroupMemberCache;
+
+@Component
+@AllArgsConstructor
+public class GroupMemberEventHandler {
+    private final GroupMemberCache groupMemberCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void evictGroupMemberListener(GroupMemberEventDto.Changed dto) {
+        groupMemberCache.evict(dto.groupId());
+    }
+}
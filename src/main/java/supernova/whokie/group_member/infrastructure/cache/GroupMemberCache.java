@@ -0,0 +1,40 @@
+package supernova.whokie.group_member.infrastructure.cache;
+
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import supernova.whokie.global.cache.CacheStats;
+import supernova.whokie.global.cache.CacheStatsSource;
+import supernova.whokie.global.cache.LruCache;
+import supernova.whokie.group_member.infrastructure.repository.GroupMemberRepository;
+
+// group id -> 멤버 user id 배열 캐시. 멤버 구성이 바뀌면 비우고 다음 조회 때 다시 읽는다
+@Component
+public class GroupMemberCache implements CacheStatsSource {
+
+    private final GroupMemberRepository groupMemberRepository;
+    private final LruCache<Long, long[]> memberUserIds;
+
+    public GroupMemberCache(
+        GroupMemberRepository groupMemberRepository,
+        @Value("${group-member-cache-max-ids}") long maxMemberIds
+    ) {
+        this.groupMemberRepository = groupMemberRepository;
+        this.memberUserIds = new LruCache<>(maxMemberIds, ids -> ids.length + 1);
+    }
+
+    public long[] getMemberUserIds(Long groupId) {
+        return memberUserIds.get(groupId, id -> groupMemberRepository.findUserIdsByGroupId(id).stream()
+            .mapToLong(Long::longValue)
+            .toArray());
+    }
+
+    public void evict(Long groupId) {
+        memberUserIds.invalidate(groupId);
+    }
+
+    @Override
+    public Map<String, CacheStats> stats() {
+        return Map.of("groupMemberIds", memberUserIds.stats());
+    }
+}
@@ -0,0 +1,18 @@
+package supernova.whokie.group_member.infrastructure.repository;
+
+import java.time.LocalDateTime;
+import supernova.whokie.group_member.GroupRole;
+import supernova.whokie.group_member.GroupStatus;
+
+// 그룹 멤버 목록 화면에 필요한 컬럼만 users 와 조인해 한 번에 읽는 projection
+public record GroupMemberProjection(
+    Long groupMemberId,
+    Long userId,
+    String userName,
+    String imageUrl,
+    GroupRole role,
+    GroupStatus status,
+    LocalDateTime joinedAt
+) {
+
+}
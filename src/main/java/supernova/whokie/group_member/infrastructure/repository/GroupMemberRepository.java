@@ -1,12 +1,11 @@
 package supernova.whokie.group_member.infrastructure.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
-import supernova.whokie.friend.Friend;
 import supernova.whokie.group_member.GroupMember;
 
 public interface GroupMemberRepository extends JpaRepository<GroupMember, Long> {
@@ -15,8 +14,22 @@ public interface GroupMemberRepository extends JpaRepository<GroupMember, Long>
 
     void deleteByUserIdAndGroupId(Long userId, Long groupId);
 
-    List<GroupMember> findAllByGroupId(Long groupId);
+    // 조회하는 유저가 그룹 멤버가 아니면 빈 목록을 돌려준다
+    @Query("SELECT new supernova.whokie.group_member.infrastructure.repository.GroupMemberProjection("
+        + "gm.id, u.id, u.name, u.imageUrl, gm.groupRole, gm.groupStatus, gm.createdAt) "
+        + "FROM GroupMember gm JOIN gm.user u "
+        + "WHERE gm.group.id = :groupId "
+        + "AND EXISTS (SELECT 1 FROM GroupMember me WHERE me.group.id = :groupId AND me.user.id = :userId) "
+        + "ORDER BY gm.id")
+    List<GroupMemberProjection> findMembersVisibleTo(@Param("userId") Long userId, @Param("groupId") Long groupId);
 
-    @Query("SELECT g FROM GroupMember g WHERE g.user.id != :userId AND g.group.id = :groupId ORDER BY function('RAND')")
-    List<GroupMember> getRandomGroupMember(@Param("userId") Long userId, @Param("groupId") Long groupId, Pageable pageable);
+    @Query("SELECT gm.user.id FROM GroupMember gm WHERE gm.group.id = :groupId")
+    List<Long> findUserIdsByGroupId(@Param("groupId") Long groupId);
+
+    @Query("SELECT new supernova.whokie.group_member.infrastructure.repository.GroupMemberProjection("
+        + "gm.id, u.id, u.name, u.imageUrl, gm.groupRole, gm.groupStatus, gm.createdAt) "
+        + "FROM GroupMember gm JOIN gm.user u "
+        + "WHERE gm.group.id = :groupId AND u.id IN :userIds")
+    List<GroupMemberProjection> findMembersByGroupIdAndUserIdIn(@Param("groupId") Long groupId,
+        @Param("userIds") Collection<Long> userIds);
 }
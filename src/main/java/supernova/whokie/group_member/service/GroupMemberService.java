@@ -2,11 +2,14 @@ package supernova.whokie.group_member.service;
 
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import supernova.whokie.global.exception.EntityNotFoundException;
 import supernova.whokie.global.exception.ForbiddenException;
 import supernova.whokie.group_member.GroupMember;
+import supernova.whokie.group_member.event.GroupMemberEventDto;
+import supernova.whokie.group_member.infrastructure.repository.GroupMemberProjection;
 import supernova.whokie.group_member.infrastructure.repository.GroupMemberRepository;
 import supernova.whokie.group_member.service.dto.GroupMemberCommand;
 import supernova.whokie.group_member.service.dto.GroupMemberModel.Member;
@@ -17,6 +20,7 @@ import supernova.whokie.group_member.service.dto.GroupMemberModel.Members;
 public class GroupMemberService {
 
     private final GroupMemberRepository groupMemberRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void delegateLeader(Long userId, GroupMemberCommand.Modify command) {
@@ -58,13 +62,15 @@ public class GroupMemberService {
             .orElseThrow(() -> new EntityNotFoundException("그룹 내에 해당 유저가 존재하지 않습니다."));
 
         groupMemberRepository.deleteByUserIdAndGroupId(member.getId(), command.groupId());
+        eventPublisher.publishEvent(GroupMemberEventDto.Changed.toDto(command.groupId()));
     }
 
+    @Transactional(readOnly = true)
     public Members getGroupMembers(Long userId, Long groupId) {
-        GroupMember member = groupMemberRepository.findByUserIdAndGroupId(userId, groupId)
-            .orElseThrow(() -> new EntityNotFoundException("해당 그룹의 유저만 조회할 수 있습니다."));
-
-        List<GroupMember> groupMembers = groupMemberRepository.findAllByGroupId(groupId);
-        return Members.from(groupMembers);
+        List<GroupMemberProjection> members = groupMemberRepository.findMembersVisibleTo(userId, groupId);
+        if (members.isEmpty()) {
+            throw new EntityNotFoundException("해당 그룹의 유저만 조회할 수 있습니다.");
+        }
+        return Members.from(members);
     }
 }
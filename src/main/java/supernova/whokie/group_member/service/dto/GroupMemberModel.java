@@ -3,8 +3,9 @@ package supernova.whokie.group_member.service.dto;
 import java.time.LocalDate;
 import java.util.List;
 import lombok.Builder;
-import supernova.whokie.group_member.GroupMember;
 import supernova.whokie.group_member.GroupRole;
+import supernova.whokie.group_member.GroupStatus;
+import supernova.whokie.group_member.infrastructure.repository.GroupMemberProjection;
 
 public class GroupMemberModel {
 
@@ -13,17 +14,21 @@ public class GroupMemberModel {
         Long groupMemberId,
         Long userId,
         String userName,
+        String imageUrl,
         LocalDate joinedAt,
-        GroupRole role
+        GroupRole role,
+        GroupStatus status
     ) {
 
-        public static Member from(GroupMember groupMember) {
+        public static Member from(GroupMemberProjection projection) {
             return Member.builder()
-                .groupMemberId(groupMember.getId())
-                .userId(groupMember.getUser().getId())
-                .userName(groupMember.getUser().getName())
-                .joinedAt(groupMember.getCreatedAt().toLocalDate())
-                .role(groupMember.getGroupRole())
+                .groupMemberId(projection.groupMemberId())
+                .userId(projection.userId())
+                .userName(projection.userName())
+                .imageUrl(projection.imageUrl())
+                .joinedAt(projection.joinedAt().toLocalDate())
+                .role(projection.role())
+                .status(projection.status())
                 .build();
         }
     }
@@ -33,7 +38,7 @@ public class GroupMemberModel {
         List<Member> members
     ) {
 
-        public static Members from(List<GroupMember> memberList) {
+        public static Members from(List<GroupMemberProjection> memberList) {
             return Members.builder()
                 .members(
                     memberList.stream()
@@ -52,12 +57,12 @@ public class GroupMemberModel {
         String imageUrl
     ) {
 
-        public static Option from(GroupMember groupMember) {
+        public static Option from(GroupMemberProjection projection) {
             return Option.builder()
-                .groupMemberId(groupMember.getId())
-                .userId(groupMember.getUser().getId())
-                .userName(groupMember.getUser().getName())
-                .imageUrl(groupMember.getUser().getImageUrl())
+                .groupMemberId(projection.groupMemberId())
+                .userId(projection.userId())
+                .userName(projection.userName())
+                .imageUrl(projection.imageUrl())
                 .build();
         }
     }
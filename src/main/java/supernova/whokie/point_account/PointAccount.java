@@ -0,0 +1,38 @@
+package supernova.whokie.point_account;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 자주 바뀌는 포인트 잔액만 따로 둔 좁은 테이블. users 행은 포인트 변경으로 다시 쓰이지 않는다
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Entity
+@Getter
+@Table(name = "point_account")
+public class PointAccount {
+
+    @Id
+    private Long userId;
+
+    @NotNull
+    @Min(0)
+    private Integer balance;
+
+    // 잔액이 바뀔 때마다 1씩 증가한다 (낙관적 락 재시도에는 쓰지 않는다)
+    @NotNull
+    private Long version;
+
+    @Column(columnDefinition = "DATETIME(0)")
+    private LocalDateTime lastUpdated;
+}
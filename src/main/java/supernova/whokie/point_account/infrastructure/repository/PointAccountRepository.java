@@ -0,0 +1,22 @@
+package supernova.whokie.point_account.infrastructure.repository;
+
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import supernova.whokie.point_account.PointAccount;
+
+public interface PointAccountRepository extends JpaRepository<PointAccount, Long> {
+
+    @Modifying
+    @Query("UPDATE PointAccount p SET p.balance = p.balance + :amount, p.version = p.version + 1, p.lastUpdated = :now "
+        + "WHERE p.userId = :userId")
+    int credit(@Param("userId") Long userId, @Param("amount") int amount, @Param("now") LocalDateTime now);
+
+    // 잔액이 충분할 때만 차감된다
+    @Modifying
+    @Query("UPDATE PointAccount p SET p.balance = p.balance - :amount, p.version = p.version + 1, p.lastUpdated = :now "
+        + "WHERE p.userId = :userId AND p.balance >= :amount")
+    int debit(@Param("userId") Long userId, @Param("amount") int amount, @Param("now") LocalDateTime now);
+}
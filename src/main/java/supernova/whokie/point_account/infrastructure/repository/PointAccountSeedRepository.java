@@ -0,0 +1,32 @@
+package supernova.whokie.point_account.infrastructure.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class PointAccountSeedRepository {
+
+    private static final String SEED_SQL =
+        "INSERT INTO point_account (user_id, balance, version, last_updated) "
+            + "SELECT u.id, u.point, 0, ? FROM users u WHERE u.id = ? "
+            + "AND NOT EXISTS (SELECT 1 FROM point_account p WHERE p.user_id = u.id)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 계정이 없는 유저는 users.point 값으로 계정을 만든다. 유저가 없으면 false
+    public boolean seedFromUser(Long userId) {
+        try {
+            jdbcTemplate.update(SEED_SQL, Timestamp.valueOf(LocalDateTime.now()), userId);
+        } catch (DuplicateKeyException e) {
+            // 동시에 다른 요청이 먼저 만든 경우
+        }
+        Integer count = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM point_account WHERE user_id = ?", Integer.class, userId);
+        return count != null && count > 0;
+    }
+}
@@ -0,0 +1,59 @@
+package supernova.whokie.point_account.service;
+
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import supernova.whokie.global.exception.EntityNotFoundException;
+import supernova.whokie.global.exception.InvalidEntityException;
+import supernova.whokie.point_account.PointAccount;
+import supernova.whokie.point_account.infrastructure.repository.PointAccountRepository;
+import supernova.whokie.point_account.infrastructure.repository.PointAccountSeedRepository;
+
+// 포인트 잔액은 읽고-수정하지 않고 조건부 UPDATE 한 번으로 바꾼다. 영향받은 행 수로 성공 여부를 판단한다
+@Service
+@RequiredArgsConstructor
+public class PointAccountService {
+
+    private final PointAccountRepository pointAccountRepository;
+    private final PointAccountSeedRepository pointAccountSeedRepository;
+
+    // 계정이 없으면 만들어야 하므로 readOnly로 두지 않는다
+    @Transactional
+    public int getBalance(Long userId) {
+        return pointAccountRepository.findById(userId)
+            .map(PointAccount::getBalance)
+            .orElseGet(() -> {
+                ensureAccount(userId);
+                return pointAccountRepository.findById(userId)
+                    .map(PointAccount::getBalance)
+                    .orElseThrow(() -> new EntityNotFoundException("해당 유저를 찾을 수 없습니다."));
+            });
+    }
+
+    @Transactional
+    public void credit(Long userId, int amount) {
+        if (pointAccountRepository.credit(userId, amount, LocalDateTime.now()) > 0) {
+            return;
+        }
+        ensureAccount(userId);
+        pointAccountRepository.credit(userId, amount, LocalDateTime.now());
+    }
+
+    @Transactional
+    public void debit(Long userId, int amount) {
+        if (pointAccountRepository.debit(userId, amount, LocalDateTime.now()) > 0) {
+            return;
+        }
+        ensureAccount(userId);
+        if (pointAccountRepository.debit(userId, amount, LocalDateTime.now()) == 0) {
+            throw new InvalidEntityException("포인트가 부족합니다.");
+        }
+    }
+
+    private void ensureAccount(Long userId) {
+        if (!pointAccountSeedRepository.seedFromUser(userId)) {
+            throw new EntityNotFoundException("해당 유저를 찾을 수 없습니다.");
+        }
+    }
+}
@@ -9,6 +9,7 @@ import supernova.whokie.global.entity.BaseTimeEntity;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
+@Table(indexes = @Index(name = "idx_point_record_user_created", columnList = "user_id, created_at, id"))
 public class PointRecord extends BaseTimeEntity {
 
     @Id
@@ -1,6 +1,8 @@
 package supernova.whokie.point_record.controller;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -12,6 +14,7 @@ import org.springframework.web.bind.annotation.*;
 import supernova.whokie.global.annotation.Authenticate;
 import supernova.whokie.global.dto.GlobalResponse;
 import supernova.whokie.global.dto.PagingResponse;
+import supernova.whokie.global.dto.SliceResponse;
 import supernova.whokie.point_record.PointRecordOption;
 import supernova.whokie.point_record.controller.dto.PointRecordRequest;
 import supernova.whokie.point_record.controller.dto.PointRecordResponse;
@@ -48,6 +51,22 @@ public class PointRecordController {
         return ResponseEntity.ok().body(PagingResponse.from(response));
     }
 
+    @GetMapping("/record/scroll")
+    public ResponseEntity<SliceResponse<PointRecordResponse.Record>> getChargedScroll(
+            @Authenticate Long userId,
+            @RequestParam(name = "start-date", defaultValue = "1900-01-01") LocalDate startDate,
+            @RequestParam(name = "end-date", defaultValue = "2100-01-01") LocalDate endDate,
+            @RequestParam(name = "option") @NotNull PointRecordOption option,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "10") @Min(1) @Max(100) int size
+    ) {
+        PointRecordCommand.Record command = new PointRecordCommand.Record(startDate, endDate, option);
+        SliceResponse<PointRecordResponse.Record> response = pointRecordService.getRecordsSlice(userId, command, cursor, size)
+                .map(PointRecordResponse.Record::from);
+
+        return ResponseEntity.ok().body(response);
+    }
+
     @PatchMapping("/earn")
     public GlobalResponse earnPoint(
             @RequestBody @Valid PointRecordRequest.Earn request
@@ -1,23 +1,22 @@
 package supernova.whokie.point_record.event;
 
 import lombok.AllArgsConstructor;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
-import supernova.whokie.answer.service.AnswerService;
+import supernova.whokie.point_record.sevice.PointRecordWriter;
 
 @Component
 @AllArgsConstructor
 public class PointRecordEventHandler {
 
-    private final AnswerService answerService;
+    private final PointRecordWriter pointRecordWriter;
 
-    @Async
+    // PointRecordWriter 큐가 가득 차면 잠시 기다리는 것이 배압이므로, 앞에 비동기 큐를 두지 않고 바로 넣는다
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void earnPointListener(PointRecordEventDto.Earn event) {
 
-        answerService.recordEarnPoint(event);
+        pointRecordWriter.enqueue(event);
 
     }
 }
@@ -0,0 +1,47 @@
+package supernova.whokie.point_record.infrastructure.repository;
+
+import java.sql.DatabaseMetaData;
+import java.sql.Timestamp;
+import java.util.List;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import supernova.whokie.point_record.sevice.dto.PointRecordCommand;
+
+@Timed("whokie.repository")
+@Repository
+@RequiredArgsConstructor
+public class PointRecordBulkRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile String insertSql;
+
+    // IDENTITY 전략에서는 Hibernate가 insert를 묶지 못하므로 JDBC batch로 직접 넣는다
+    @Transactional
+    public void saveAll(List<PointRecordCommand.Earn> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(insertSql(), records.stream()
+            .map(record -> new Object[]{
+                record.userId(), record.point(), record.amount(), record.option().name(),
+                record.description(), Timestamp.valueOf(record.createdAt()), Timestamp.valueOf(record.createdAt())})
+            .toList());
+    }
+
+    // option은 mysql 예약어라 DB에 맞는 식별자 따옴표로 감싼다
+    private String insertSql() {
+        if (insertSql == null) {
+            String quote = jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+                DatabaseMetaData metaData = connection.getMetaData();
+                return metaData.getIdentifierQuoteString().trim();
+            });
+            insertSql = "INSERT INTO point_record (user_id, point, amount, " + quote + "option" + quote
+                + ", description, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+        }
+        return insertSql;
+    }
+}
@@ -2,8 +2,10 @@ package supernova.whokie.point_record.infrastructure.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import supernova.whokie.point_record.PointRecord;
 import supernova.whokie.point_record.PointRecordOption;
 
@@ -18,4 +20,16 @@ public interface PointRecordRepository extends JpaRepository<PointRecord, Long>
     @Query("SELECT p FROM PointRecord p WHERE p.userId= :userId AND p.option= :option AND p.createdAt BETWEEN :startDate AND :endDate")
     Page<PointRecord> findByUserIdAndOptionPaging(Long userId, PointRecordOption option, LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
 
+    @Query("SELECT p FROM PointRecord p WHERE p.userId = :userId AND p.createdAt BETWEEN :startDate AND :endDate "
+        + "AND (p.createdAt > :createdAt OR (p.createdAt = :createdAt AND p.id > :id)) "
+        + "ORDER BY p.createdAt ASC, p.id ASC")
+    Slice<PointRecord> findSliceByUserId(@Param("userId") Long userId, @Param("startDate") LocalDateTime startDate,
+        @Param("endDate") LocalDateTime endDate, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT p FROM PointRecord p WHERE p.userId = :userId AND p.option = :option AND p.createdAt BETWEEN :startDate AND :endDate "
+        + "AND (p.createdAt > :createdAt OR (p.createdAt = :createdAt AND p.id > :id)) "
+        + "ORDER BY p.createdAt ASC, p.id ASC")
+    Slice<PointRecord> findSliceByUserIdAndOption(@Param("userId") Long userId, @Param("option") PointRecordOption option,
+        @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
 }
@@ -1,10 +1,16 @@
 package supernova.whokie.point_record.sevice;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.AllArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import supernova.whokie.global.dto.Cursor;
+import supernova.whokie.global.dto.SliceResponse;
+import supernova.whokie.point_record.PointRecord;
 import supernova.whokie.point_record.PointRecordOption;
 import supernova.whokie.point_record.infrastructure.repository.PointRecordRepository;
 import supernova.whokie.point_record.sevice.dto.PointRecordCommand;
@@ -13,6 +19,7 @@ import supernova.whokie.point_record.sevice.dto.PointRecordModel;
 import java.time.LocalTime;
 
 
+@Timed("whokie.service")
 @Service
 @AllArgsConstructor
 public class PointRecordService {
@@ -34,4 +41,23 @@ public class PointRecordService {
                         userId, command.option(), command.startDateTime(), command.endDateTime(), pageable)
                 .map(PointRecordModel.Record::from);
     }
+
+    @Transactional(readOnly = true)
+    public SliceResponse<PointRecordModel.Record> getRecordsSlice(
+            Long userId,
+            PointRecordCommand.Record command,
+            String cursor,
+            int size
+    ) {
+        Cursor position = Cursor.decode(cursor);
+        Pageable pageable = PageRequest.of(0, size);
+        Slice<PointRecord> records = (command.option() == PointRecordOption.ALL)
+                ? pointRecordRepository.findSliceByUserId(
+                        userId, command.startDateTime(), command.endDateTime(), position.createdAt(), position.id(), pageable)
+                : pointRecordRepository.findSliceByUserIdAndOption(
+                        userId, command.option(), command.startDateTime(), command.endDateTime(), position.createdAt(), position.id(), pageable);
+
+        return SliceResponse.from(records, PointRecordModel.Record::from,
+                record -> new Cursor(record.getCreatedAt(), record.getId()));
+    }
 }
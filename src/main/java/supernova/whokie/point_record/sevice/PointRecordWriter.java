@@ -0,0 +1,210 @@
+package supernova.whokie.point_record.sevice;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import supernova.whokie.point_record.event.PointRecordEventDto;
+import supernova.whokie.point_record.infrastructure.repository.PointRecordBulkRepository;
+import supernova.whokie.point_record.sevice.dto.PointRecordCommand;
+
+// 포인트 적립 내역을 큐에 모아 두었다가 batch 크기나 대기 시간에 도달하면 한 번에 insert 한다
+@Component
+public class PointRecordWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(PointRecordWriter.class);
+    private static final int MAX_WRITE_ATTEMPTS = 3;
+
+    private final PointRecordBulkRepository pointRecordBulkRepository;
+    private final BlockingQueue<PointRecordCommand.Earn> queue;
+    // DB 장애로 기록하지 못한 내역. 버리지 않고 drainLoop 에서 다음 batch 전에 다시 기록한다
+    private final ConcurrentLinkedQueue<PointRecordCommand.Earn> failed = new ConcurrentLinkedQueue<>();
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final long enqueueTimeoutMs;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public PointRecordWriter(
+        PointRecordBulkRepository pointRecordBulkRepository,
+        @Value("${point-record-queue-capacity}") int queueCapacity,
+        @Value("${point-record-batch-size}") int batchSize,
+        @Value("${point-record-flush-interval-ms}") long flushIntervalMs,
+        @Value("${point-record-enqueue-timeout-ms}") long enqueueTimeoutMs
+    ) {
+        this.pointRecordBulkRepository = pointRecordBulkRepository;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.enqueueTimeoutMs = enqueueTimeoutMs;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = new Thread(this::drainLoop, "point-record-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    // 큐가 가득 차면 잠시 기다리고, 그래도 자리가 없으면 호출한 스레드에서 직접 기록해 생산 속도를 늦춘다
+    public void enqueue(PointRecordEventDto.Earn event) {
+        PointRecordCommand.Earn record = PointRecordCommand.Earn.from(event, LocalDateTime.now());
+        if (running) {
+            try {
+                if (queue.offer(record, enqueueTimeoutMs, TimeUnit.MILLISECONDS)) {
+                    // stop()이 큐를 비운 뒤에 들어갔다면 아무도 꺼내지 않으므로 직접 기록한다
+                    if (!running && queue.remove(record)) {
+                        write(List.of(record));
+                    }
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        write(List.of(record));
+    }
+
+    public int pendingCount() {
+        return queue.size();
+    }
+
+    public int failedCount() {
+        return failed.size();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // 종료 시 남은 내역을 모두 기록한다
+        List<PointRecordCommand.Earn> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+        retryFailed();
+        // 메모리에만 남아 있던 내역은 프로세스와 함께 사라지므로 복구할 수 있게 모두 남긴다
+        PointRecordCommand.Earn record;
+        while ((record = failed.poll()) != null) {
+            log.error("PointRecord lost on shutdown - {}", record);
+        }
+    }
+
+    private void drainLoop() {
+        List<PointRecordCommand.Earn> batch = new ArrayList<>(batchSize);
+        while (running) {
+            retryFailed();
+            try {
+                fill(batch);
+            } catch (InterruptedException e) {
+                // stop()에서 깨운 경우이며, 이미 꺼낸 내역은 아래에서 기록한다
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    // 첫 내역이 들어온 시점부터 flushIntervalMs 동안 batchSize 만큼 모은다
+    private void fill(List<PointRecordCommand.Earn> batch) throws InterruptedException {
+        PointRecordCommand.Earn first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                return;
+            }
+            PointRecordCommand.Earn next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void retryFailed() {
+        int retries = failed.size();
+        List<PointRecordCommand.Earn> batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < retries; i++) {
+            PointRecordCommand.Earn record = failed.poll();
+            if (record == null) {
+                break;
+            }
+            batch.add(record);
+            if (batch.size() == batchSize) {
+                write(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+    }
+
+    private void write(List<PointRecordCommand.Earn> batch) {
+        for (int attempt = 1; attempt <= MAX_WRITE_ATTEMPTS; attempt++) {
+            try {
+                pointRecordBulkRepository.saveAll(batch);
+                return;
+            } catch (RuntimeException e) {
+                log.error("PointRecord batch insert failed - attempt {}, {} rows", attempt, batch.size(), e);
+            }
+        }
+        writeOneByOne(batch);
+    }
+
+    // 한 행의 실패가 batch 전체를 되돌리므로 한 행씩 기록한다. 일시적인 장애면 남은 내역을 모두 보관하고,
+    // 제약 위반처럼 다시 넣어도 실패할 행만 따로 빼서 나머지를 막지 않게 한다
+    private void writeOneByOne(List<PointRecordCommand.Earn> batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            PointRecordCommand.Earn record = batch.get(i);
+            try {
+                pointRecordBulkRepository.saveAll(List.of(record));
+            } catch (RuntimeException e) {
+                if (!isTransient(e)) {
+                    log.error("PointRecord rejected - {}", record, e);
+                    continue;
+                }
+                log.error("PointRecord write failed - {} rows kept for retry", batch.size() - i, e);
+                failed.addAll(batch.subList(i, batch.size()));
+                return;
+            }
+        }
+    }
+
+    private static boolean isTransient(RuntimeException e) {
+        return e instanceof TransientDataAccessException
+            || e instanceof RecoverableDataAccessException
+            || e instanceof DataAccessResourceFailureException
+            || e instanceof CannotCreateTransactionException;
+    }
+}
@@ -2,6 +2,7 @@ package supernova.whokie.point_record.sevice.dto;
 
 import lombok.Builder;
 import supernova.whokie.point_record.PointRecordOption;
+import supernova.whokie.point_record.event.PointRecordEventDto;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -23,4 +24,25 @@ public class PointRecordCommand {
             return endDate.atTime(LocalTime.MAX);
         }
     }
+
+    @Builder
+    public record Earn(
+            Long userId,
+            int point,
+            int amount,
+            PointRecordOption option,
+            String description,
+            LocalDateTime createdAt
+    ) {
+        public static Earn from(PointRecordEventDto.Earn event, LocalDateTime createdAt) {
+            return Earn.builder()
+                    .userId(event.userId())
+                    .point(event.point())
+                    .amount(event.amount())
+                    .option(event.option())
+                    .description(event.message())
+                    .createdAt(createdAt)
+                    .build();
+        }
+    }
 }
@@ -7,6 +7,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import supernova.whokie.global.dto.GlobalResponse;
 import supernova.whokie.profile.controller.dto.ProfileResponse;
@@ -29,7 +30,10 @@ public class ProfileController {
     }
 
     @GetMapping("/visited")
-    public GlobalResponse increaseVisited() {
-        return GlobalResponse.builder().message("message").build();
+    public GlobalResponse increaseVisited(
+            @RequestParam("user-id") @NotNull @Min(1) Long userId
+    ) {
+        profileService.visit(userId);
+        return GlobalResponse.builder().message("방문 기록 완료").build();
     }
 }
@@ -0,0 +1,34 @@
+package supernova.whokie.profile.infrastructure;
+
+import java.util.Map;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Timed("whokie.repository")
+@Repository
+@RequiredArgsConstructor
+public class ProfileVisitRepository {
+
+    private static final String INCREASE_SQL =
+        "UPDATE profile SET today_visited = today_visited + ?, total_visited = total_visited + ? WHERE user_id = ?";
+    private static final String RESET_TODAY_SQL =
+        "UPDATE profile SET today_visited = 0 WHERE today_visited <> 0";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // key: 프로필 주인 user id, value: 모아 둔 방문 수
+    @Transactional
+    public void increaseAll(Map<Long, Long> deltas) {
+        jdbcTemplate.batchUpdate(INCREASE_SQL, deltas.entrySet().stream()
+            .map(entry -> new Object[]{entry.getValue(), entry.getValue(), entry.getKey()})
+            .toList());
+    }
+
+    @Transactional
+    public int resetTodayVisited() {
+        return jdbcTemplate.update(RESET_TODAY_SQL);
+    }
+}
@@ -0,0 +1,54 @@
+package supernova.whokie.profile.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import supernova.whokie.global.cache.CacheStats;
+import supernova.whokie.global.cache.CacheStatsSource;
+import supernova.whokie.global.cache.LruCache;
+import supernova.whokie.global.exception.EntityNotFoundException;
+import supernova.whokie.profile.infrastructure.ProfileRepository;
+import supernova.whokie.profile.service.dto.ProfileModel;
+
+// 프로필 주인 user id -> 마지막으로 DB에 반영된 방문 수 기준의 프로필 스냅샷
+@Component
+public class ProfileInfoCache implements CacheStatsSource {
+
+    private final ProfileRepository profileRepository;
+    private final LruCache<Long, ProfileModel.Info> infos;
+
+    public ProfileInfoCache(
+        ProfileRepository profileRepository,
+        @Value("${profile-cache-max-size}") long maxSize,
+        @Value("${profile-cache-ttl-seconds}") long ttlSeconds
+    ) {
+        this.profileRepository = profileRepository;
+        this.infos = LruCache.ofSize(maxSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    public ProfileModel.Info get(Long userId) {
+        return infos.get(userId, id -> profileRepository.findByUsersId(id)
+            .map(ProfileModel.Info::from)
+            .orElseThrow(() -> new EntityNotFoundException("User not found")));
+    }
+
+    // 방문 수 flush 직후 호출한다. 스냅샷에 증가분을 더하면 DB 반영 직후에 새로 읽힌 스냅샷에 한 번 더 더해지므로 비운다
+    public void evictAll(Collection<Long> userIds) {
+        userIds.forEach(infos::invalidate);
+    }
+
+    public void evict(Long userId) {
+        infos.invalidate(userId);
+    }
+
+    public void evictAll() {
+        infos.invalidateAll();
+    }
+
+    @Override
+    public Map<String, CacheStats> stats() {
+        return Map.of("profileInfos", infos.stats());
+    }
+}
@@ -2,21 +2,24 @@ package supernova.whokie.profile.service;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import supernova.whokie.global.exception.EntityNotFoundException;
-import supernova.whokie.profile.Profile;
-import supernova.whokie.profile.infrastructure.ProfileRepository;
+import supernova.whokie.profile.infrastructure.cache.ProfileInfoCache;
 import supernova.whokie.profile.service.dto.ProfileModel;
 
 @Service
 @RequiredArgsConstructor
 public class ProfileService {
 
-    private final ProfileRepository profileRepository;
+    private final ProfileInfoCache profileInfoCache;
+    private final ProfileVisitCounter profileVisitCounter;
 
     public ProfileModel.Info getProfile(Long userId) {
-        Profile profile = profileRepository.findByUsersId(userId)
-            .orElseThrow(() -> new EntityNotFoundException("User not found"));
+        // 아직 DB에 반영되지 않은 방문 수를 더해서 보여준다
+        return profileInfoCache.get(userId).plusVisits(profileVisitCounter.pendingVisits(userId));
+    }
 
-        return ProfileModel.Info.from(profile);
+    public void visit(Long userId) {
+        // 인증 없이 열린 API라 없는 id로 카운터가 끝없이 늘지 않도록, 프로필이 있는지 캐시로 먼저 확인한다
+        profileInfoCache.get(userId);
+        profileVisitCounter.record(userId);
     }
 }
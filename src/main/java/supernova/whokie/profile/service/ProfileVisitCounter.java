@@ -0,0 +1,106 @@
+package supernova.whokie.profile.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import supernova.whokie.profile.infrastructure.ProfileVisitRepository;
+import supernova.whokie.profile.infrastructure.cache.ProfileInfoCache;
+
+// 프로필 방문 수를 메모리에서 세고, 모인 증가분을 주기적으로 한 번에 반영한다
+@Component
+public class ProfileVisitCounter {
+
+    private static final Logger log = LoggerFactory.getLogger(ProfileVisitCounter.class);
+
+    private final ProfileVisitRepository profileVisitRepository;
+    private final ProfileInfoCache profileInfoCache;
+    // key: 프로필 주인 user id. 인기 프로필에 방문이 몰려도 한 칸에서 CAS가 경합하지 않도록 LongAdder로 센다
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    // 방문이 끊겨 맵에서 뺀 카운터. 빼기 직전에 카운터를 집어 간 방문이 있을 수 있으므로 다음 flush에서 한 번 더 걷는다
+    private Map<Long, LongAdder> retired = Map.of();
+    // 자정 초기화 전에 어제 방문분을 먼저 반영해야 하므로 flush와 초기화는 겹치지 않게 한다
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public ProfileVisitCounter(ProfileVisitRepository profileVisitRepository, ProfileInfoCache profileInfoCache) {
+        this.profileVisitRepository = profileVisitRepository;
+        this.profileInfoCache = profileInfoCache;
+    }
+
+    public void record(Long userId) {
+        pending.computeIfAbsent(userId, id -> new LongAdder()).increment();
+    }
+
+    public long pendingVisits(Long userId) {
+        LongAdder adder = pending.get(userId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    @Scheduled(fixedDelayString = "${profile-visit-flush-interval-ms}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            Map<Long, Long> deltas = drain();
+            if (deltas.isEmpty()) {
+                return;
+            }
+            try {
+                profileVisitRepository.increaseAll(deltas);
+                profileInfoCache.evictAll(deltas.keySet());
+            } catch (RuntimeException e) {
+                log.error("Profile visit flush failed - {} profiles will be retried", deltas.size(), e);
+                deltas.forEach((userId, delta) -> pending.computeIfAbsent(userId, id -> new LongAdder()).add(delta));
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Scheduled(cron = "${profile-visit-reset-cron}", zone = "${profile-visit-reset-zone}")
+    public void rolloverToday() {
+        flushLock.lock();
+        try {
+            flush();
+            int reset = profileVisitRepository.resetTodayVisited();
+            profileInfoCache.evictAll();
+            log.info("Profile todayVisited reset - {} profiles", reset);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // flushLock을 잡은 채로 호출한다. 이번 주기에 방문이 없던 카운터는 맵에서 빼서 방문이 끊긴 프로필이 남지 않게 한다
+    private Map<Long, Long> drain() {
+        Map<Long, Long> deltas = new HashMap<>();
+        retired.forEach((userId, adder) -> addDelta(deltas, userId, adder.sumThenReset()));
+
+        Map<Long, LongAdder> idle = new HashMap<>();
+        pending.forEach((userId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                addDelta(deltas, userId, delta);
+            } else if (pending.remove(userId, adder)) {
+                idle.put(userId, adder);
+            }
+        });
+        retired = idle;
+        return deltas;
+    }
+
+    private static void addDelta(Map<Long, Long> deltas, Long userId, long delta) {
+        if (delta > 0) {
+            deltas.merge(userId, delta, Long::sum);
+        }
+    }
+}
@@ -23,5 +23,18 @@ public class ProfileModel {
                 .name(profile.getUsers().getName())
                 .build();
         }
+
+        public ProfileModel.Info plusVisits(long visits) {
+            if (visits == 0) {
+                return this;
+            }
+            return Info.builder()
+                .todayVisited(todayVisited + (int) visits)
+                .totalVisited(totalVisited + (int) visits)
+                .description(description)
+                .backgroundImageUrl(backgroundImageUrl)
+                .name(name)
+                .build();
+        }
     }
 }
@@ -1,6 +1,7 @@
 package supernova.whokie.profile_answer.controller;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
@@ -10,8 +11,10 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.web.bind.annotation.*;
 import supernova.whokie.global.annotation.Authenticate;
+import supernova.whokie.global.annotation.StatementBudget;
 import supernova.whokie.global.dto.GlobalResponse;
 import supernova.whokie.global.dto.PagingResponse;
+import supernova.whokie.global.dto.SliceResponse;
 import supernova.whokie.profile_answer.controller.dto.ProfileAnswerRequest;
 import supernova.whokie.profile_answer.controller.dto.ProfileAnswerResponse;
 import supernova.whokie.profile_answer.service.ProfileAnswerService;
@@ -24,6 +27,7 @@ public class ProfileAnswerController {
     private final ProfileAnswerService profileAnswerService;
 
     @GetMapping("/api/profile/answer")
+    @StatementBudget(2)
     public PagingResponse<ProfileAnswerResponse.Answer> getProfileAnswerPaging(
         @Authenticate Long userId,
         @PageableDefault(page = 0, size = 10, sort = "id", direction = Sort.Direction.ASC) Pageable pageable
@@ -33,6 +37,17 @@ public class ProfileAnswerController {
         return PagingResponse.from(page.map(ProfileAnswerResponse.Answer::from));
     }
 
+    @GetMapping("/api/profile/answer/scroll")
+    @StatementBudget(1)
+    public SliceResponse<ProfileAnswerResponse.Answer> getProfileAnswerScroll(
+        @Authenticate Long userId,
+        @RequestParam(value = "cursor", required = false) String cursor,
+        @RequestParam(value = "size", defaultValue = "10") @Min(1) @Max(100) int size
+    ) {
+        return profileAnswerService.getProfileAnswerSlice(userId, cursor, size)
+            .map(ProfileAnswerResponse.Answer::from);
+    }
+
     @PostMapping("/api/profile/answer")
     public GlobalResponse postProfileAnswer(
         @Authenticate Long userId,
@@ -1,10 +1,13 @@
 package supernova.whokie.profile_answer.infrastructure.repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 import supernova.whokie.profile_answer.ProfileAnswer;
@@ -15,6 +18,11 @@ public interface ProfileAnswerRepository extends JpaRepository<ProfileAnswer, Lo
     @Query("SELECT pa FROM ProfileAnswer pa JOIN FETCH pa.profileQuestion WHERE pa.profileQuestion.user.id = :userId")
     Page<ProfileAnswer> findAllByUserId(Long userId, Pageable pageable);
 
+    @Query("SELECT pa FROM ProfileAnswer pa JOIN FETCH pa.profileQuestion WHERE pa.profileQuestion.user.id = :userId "
+        + "AND (pa.createdAt > :createdAt OR (pa.createdAt = :createdAt AND pa.id > :id)) "
+        + "ORDER BY pa.createdAt ASC, pa.id ASC")
+    Slice<ProfileAnswer> findSliceByUserId(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
     @Query("SELECT pa FROM ProfileAnswer pa JOIN FETCH pa.answeredUser WHERE pa.id = :id")
     Optional<ProfileAnswer> findByIdWithAnsweredUser(Long id);
 
@@ -2,8 +2,13 @@ package supernova.whokie.profile_answer.service;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import supernova.whokie.global.dto.Cursor;
+import supernova.whokie.global.dto.SliceResponse;
 import supernova.whokie.global.exception.EntityNotFoundException;
 import supernova.whokie.global.exception.ForbiddenException;
 import supernova.whokie.profile_answer.ProfileAnswer;
@@ -29,6 +34,15 @@ public class ProfileAnswerService {
         return profileAnswers.map(ProfileAnswerModel.Info::from);
     }
 
+    @Transactional(readOnly = true)
+    public SliceResponse<ProfileAnswerModel.Info> getProfileAnswerSlice(Long userId, String cursor, int size) {
+        Cursor position = Cursor.decode(cursor);
+        Slice<ProfileAnswer> profileAnswers = profileAnswerRepository.findSliceByUserId(
+            userId, position.createdAt(), position.id(), PageRequest.of(0, size));
+        return SliceResponse.from(profileAnswers, ProfileAnswerModel.Info::from,
+            profileAnswer -> new Cursor(profileAnswer.getCreatedAt(), profileAnswer.getId()));
+    }
+
     public void createProfileAnswer(Long answeredUserId, ProfileAnswerCommand.Create command) {
         Users answeredUser = usersRepository.findById(answeredUserId)
             .orElseThrow(() -> new EntityNotFoundException("해당하는 사용자가 존재하지 않습니다."));
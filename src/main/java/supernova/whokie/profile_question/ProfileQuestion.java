@@ -6,8 +6,10 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -21,6 +23,7 @@ import supernova.whokie.user.Users;
 @Builder
 @Entity
 @Getter
+@Table(indexes = @Index(name = "idx_profile_question_user_created", columnList = "user_id, created_at, id"))
 public class ProfileQuestion extends BaseTimeEntity {
 
     @Id
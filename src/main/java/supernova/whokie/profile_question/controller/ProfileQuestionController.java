@@ -1,6 +1,7 @@
 package supernova.whokie.profile_question.controller;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
@@ -12,6 +13,7 @@ import org.springframework.web.bind.annotation.*;
 import supernova.whokie.global.annotation.Authenticate;
 import supernova.whokie.global.dto.GlobalResponse;
 import supernova.whokie.global.dto.PagingResponse;
+import supernova.whokie.global.dto.SliceResponse;
 import supernova.whokie.profile_question.controller.dto.ProfileQuestionRequest;
 import supernova.whokie.profile_question.controller.dto.ProfileQuestionResponse;
 
@@ -34,6 +36,16 @@ public class ProfileQuestionController {
         return PagingResponse.from(page.map(ProfileQuestionResponse.Question::from));
     }
 
+    @GetMapping("/api/profile/question/{user-id}/scroll")
+    public SliceResponse<ProfileQuestionResponse.Question> getProfileQuestionScroll(
+        @PathVariable("user-id") @NotNull @Min(1) Long userId,
+        @RequestParam(value = "cursor", required = false) String cursor,
+        @RequestParam(value = "size", defaultValue = "10") @Min(1) @Max(100) int size
+    ) {
+        return profileQuestionService.getProfileQuestionSlice(userId, cursor, size)
+            .map(ProfileQuestionResponse.Question::from);
+    }
+
     @DeleteMapping("/api/profile/question/{profile-question-id}")
     public GlobalResponse deleteProfileQuestion(
         @Authenticate Long userId,
@@ -1,10 +1,13 @@
 package supernova.whokie.profile_question.infrastructure.repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import supernova.whokie.profile_question.ProfileQuestion;
 
@@ -13,6 +16,11 @@ public interface ProfileQuestionRepository extends JpaRepository<ProfileQuestion
 
     Page<ProfileQuestion> findAllByUserId(Long userId, Pageable pageable);
 
+    @Query("SELECT pq FROM ProfileQuestion pq WHERE pq.user.id = :userId "
+        + "AND (pq.createdAt > :createdAt OR (pq.createdAt = :createdAt AND pq.id > :id)) "
+        + "ORDER BY pq.createdAt ASC, pq.id ASC")
+    Slice<ProfileQuestion> findSliceByUserId(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
     @Query("SELECT pq FROM ProfileQuestion pq JOIN FETCH pq.user WHERE pq.id = :profileQuestionId")
     Optional<ProfileQuestion> findByIdWithUser(Long profileQuestionId);
 }
@@ -2,9 +2,13 @@ package supernova.whokie.profile_question.service;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import supernova.whokie.global.dto.Cursor;
+import supernova.whokie.global.dto.SliceResponse;
 import supernova.whokie.global.exception.EntityNotFoundException;
 import supernova.whokie.global.exception.ForbiddenException;
 import supernova.whokie.profile_answer.infrastructure.repository.ProfileAnswerRepository;
@@ -30,6 +34,15 @@ public class ProfileQuestionService {
         return profileQuestions.map(ProfileQuestionModel.Info::from);
     }
 
+    @Transactional(readOnly = true)
+    public SliceResponse<ProfileQuestionModel.Info> getProfileQuestionSlice(Long userId, String cursor, int size) {
+        Cursor position = Cursor.decode(cursor);
+        Slice<ProfileQuestion> profileQuestions = profileQuestionRepository.findSliceByUserId(
+            userId, position.createdAt(), position.id(), PageRequest.of(0, size));
+        return SliceResponse.from(profileQuestions, ProfileQuestionModel.Info::from,
+            profileQuestion -> new Cursor(profileQuestion.getCreatedAt(), profileQuestion.getId()));
+    }
+
     @Transactional
     public void deleteProfileQuestion(Long userId, Long profileQuestionId) {
         ProfileQuestion profileQuestion = profileQuestionRepository.findByIdWithUser(
@@ -15,6 +15,7 @@ import supernova.whokie.user.Users;
 @Entity
 @Builder
 @Getter
+@Table(indexes = @Index(name = "idx_question_group_status_created", columnList = "group_id, question_status, created_at, id"))
 public class Question extends BaseTimeEntity {
 
     @Id
@@ -1,5 +1,13 @@
 package supernova.whokie.question;
 
 public enum QuestionStatus {
-    READY, APPROVED, REJECTED
+    READY, APPROVED, REJECTED;
+
+    // 그룹 질문 목록 조회의 status 파라미터: true는 승인, false는 거절
+    public static QuestionStatus fromApproval(Boolean status) {
+        if (status == null) {
+            return null;
+        }
+        return status ? APPROVED : REJECTED;
+    }
 }
@@ -1,6 +1,7 @@
 package supernova.whokie.question.controller;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
@@ -17,8 +18,10 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import supernova.whokie.global.annotation.Authenticate;
+import supernova.whokie.global.annotation.StatementBudget;
 import supernova.whokie.global.dto.GlobalResponse;
 import supernova.whokie.global.dto.PagingResponse;
+import supernova.whokie.global.dto.SliceResponse;
 import supernova.whokie.group_member.controller.dto.GroupMemberResponse;
 import supernova.whokie.question.service.dto.QuestionModel;
 import supernova.whokie.question.controller.dto.QuestionRequest;
@@ -35,6 +38,7 @@ public class QuestionController {
     private final QuestionService questionService;
 
     @GetMapping("/group/{group-id}/question/random")
+    @StatementBudget(4)
     public QuestionResponse.GroupQuestions getGroupQuestionList(
             @PathVariable("group-id") @NotNull @Min(1) Long groupId,
             @Authenticate Long userId
@@ -62,6 +66,7 @@ public class QuestionController {
     }
 
     @GetMapping("/group/{group-id}/question")
+    @StatementBudget(4)
     public PagingResponse<QuestionResponse.Info> getGroupQuestionPaging(
             @Authenticate Long userId,
             @PathVariable("group-id") @NotNull @Min(1) String groupId,
@@ -73,7 +78,21 @@ public class QuestionController {
         return PagingResponse.from(result.infos());
     }
 
+    @GetMapping("/group/{group-id}/question/scroll")
+    @StatementBudget(3)
+    public SliceResponse<QuestionResponse.Info> getGroupQuestionScroll(
+            @Authenticate Long userId,
+            @PathVariable("group-id") @NotNull @Min(1) Long groupId,
+            @RequestParam("status") @NotNull Boolean status,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "10") @Min(1) @Max(100) int size
+    ) {
+        return questionService.getGroupQuestionSlice(userId, groupId, status, cursor, size)
+                .map(QuestionResponse.Info::from);
+    }
+
     @GetMapping("/common/question/random")
+    @StatementBudget(5)
     public QuestionResponse.CommonQuestions getCommonQuestions(
             @Authenticate Long userId
     ) {
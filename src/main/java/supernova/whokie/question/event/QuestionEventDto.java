@@ -0,0 +1,44 @@
+package supernova.whokie.question.event;
+
+import lombok.Builder;
+import supernova.whokie.question.QuestionStatus;
+
+public class QuestionEventDto {
+
+    @Builder
+    public record Create(
+        Long questionId
+    ) {
+        public static QuestionEventDto.Create toDto(Long questionId) {
+            return Create.builder()
+                    .questionId(questionId)
+                    .build();
+        }
+    }
+
+    @Builder
+    public record StatusChanged(
+        Long questionId,
+        QuestionStatus status
+    ) {
+        public static QuestionEventDto.StatusChanged toDto(Long questionId, QuestionStatus status) {
+            return StatusChanged.builder()
+                    .questionId(questionId)
+                    .status(status)
+                    .build();
+        }
+    }
+
+    @Builder
+    public record Answered(
+        Long userId,
+        Long questionId
+    ) {
+        public static QuestionEventDto.Answered toDto(Long userId, Long questionId) {
+            return Answered.builder()
+                    .userId(userId)
+                    .questionId(questionId)
+                    .build();
+        }
+    }
+}
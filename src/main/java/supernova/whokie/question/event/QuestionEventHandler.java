@@ -0,0 +1,44 @@
+package supernova.whokie.question.event;
+
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import supernova.whokie.friend.event.FriendEventDto;
+import supernova.whokie.question.QuestionStatus;
+import supernova.whokie.question.service.QuestionDeckStore;
+import supernova.whokie.question.service.QuestionIdIndex;
+
+@Component
+@AllArgsConstructor
+public class QuestionEventHandler {
+    private final QuestionIdIndex questionIdIndex;
+    private final QuestionDeckStore questionDeckStore;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void createQuestionListener(QuestionEventDto.Create event) {
+        questionIdIndex.add(event.questionId());
+    }
+
+    // 거절된 질문은 새로 뽑지 않고, 이미 뽑힌 덱에서도 TTL을 기다리지 않고 뺀다
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void changeQuestionStatusListener(QuestionEventDto.StatusChanged event) {
+        if (event.status() == QuestionStatus.REJECTED) {
+            questionIdIndex.remove(event.questionId());
+            questionDeckStore.discardQuestion(event.questionId());
+            return;
+        }
+        questionIdIndex.add(event.questionId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void consumeQuestionDeckListener(QuestionEventDto.Answered event) {
+        questionDeckStore.consume(event.userId(), event.questionId());
+    }
+
+    // 후보가 바뀐 친구 목록을 따라가도록 덱을 버리고 다음 조회 때 다시 뽑는다
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void evictQuestionDeckListener(FriendEventDto.Changed event) {
+        questionDeckStore.evict(event.hostId());
+    }
+}
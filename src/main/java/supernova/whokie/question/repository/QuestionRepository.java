@@ -1,19 +1,32 @@
 package supernova.whokie.question.repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import supernova.whokie.question.Question;
+import supernova.whokie.question.QuestionStatus;
 
 import java.util.List;
 
 public interface QuestionRepository extends JpaRepository<Question, Long> {
-    @Query("SELECT q FROM Question q ORDER BY function('RAND')")
-    List<Question> findRandomQuestions(Pageable pageable);
+    @Query("SELECT q.id FROM Question q WHERE q.questionStatus <> 'REJECTED'")
+    List<Long> findAllIdsNotRejected();
 
-    List<Question> findAllByGroupId(Long groupId);
+    @Query(value = "SELECT q FROM Question q JOIN FETCH q.writer WHERE q.groupId = :groupId AND q.questionStatus = :status",
+        countQuery = "SELECT COUNT(q) FROM Question q WHERE q.groupId = :groupId AND q.questionStatus = :status")
+    Page<Question> findAllByGroupIdAndStatus(@Param("groupId") Long groupId, @Param("status") QuestionStatus status, Pageable pageable);
+
+    // (created_at, id) 기준 keyset 조회. count 쿼리 없이 size + 1개만 읽는다
+    @Query("SELECT q FROM Question q JOIN FETCH q.writer WHERE q.groupId = :groupId AND q.questionStatus = :status "
+        + "AND (q.createdAt > :createdAt OR (q.createdAt = :createdAt AND q.id > :id)) "
+        + "ORDER BY q.createdAt ASC, q.id ASC")
+    Slice<Question> findSliceByGroupIdAndStatus(@Param("groupId") Long groupId, @Param("status") QuestionStatus status,
+        @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
 
     @Query("SELECT q FROM Question q WHERE q.questionStatus = 'APPROVED' AND q.groupId = :groupId ORDER BY function('RAND')")
     List<Question> findRandomGroupQuestions(@Param("groupId") Long groupId, Pageable pageable);
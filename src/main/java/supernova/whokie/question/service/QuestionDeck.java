@@ -0,0 +1,105 @@
+package supernova.whokie.question.service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+// 유저 한 명에게 미리 뽑아 둔 공통 질문과 질문별 후보 친구 id.
+// i번째 질문의 후보는 candidateIds[candidateOffsets[i] .. candidateOffsets[i + 1]) 이고, 답한 질문은 consumed 비트로 표시한다
+public record QuestionDeck(
+    long[] questionIds,
+    String[] contents,
+    int[] candidateOffsets,
+    long[] candidateIds,
+    long consumed
+) {
+
+    public static final int MAX_SIZE = Long.SIZE;
+
+    // 내용을 찾을 수 없는(삭제된) 질문은 건너뛴다
+    public static QuestionDeck of(List<Long> questionIds, Map<Long, String> contents,
+        Supplier<List<Long>> candidateSampler) {
+        List<Long> ids = questionIds.stream()
+            .filter(contents::containsKey)
+            .limit(MAX_SIZE)
+            .toList();
+        List<List<Long>> sampled = ids.stream()
+            .map(id -> candidateSampler.get())
+            .toList();
+
+        int[] offsets = new int[ids.size() + 1];
+        for (int i = 0; i < ids.size(); i++) {
+            offsets[i + 1] = offsets[i] + sampled.get(i).size();
+        }
+
+        return new QuestionDeck(
+            ids.stream().mapToLong(Long::longValue).toArray(),
+            ids.stream().map(contents::get).toArray(String[]::new),
+            offsets,
+            sampled.stream().flatMap(List::stream).mapToLong(Long::longValue).toArray(),
+            0L
+        );
+    }
+
+    public int size() {
+        return questionIds.length;
+    }
+
+    public int remaining() {
+        return size() - Long.bitCount(consumed);
+    }
+
+    // 한 화면 분량(limit)을 채우지 못하면 새로 뽑아야 한다. 전체 질문이 limit보다 적으면 하나라도 답했을 때 다시 뽑는다
+    public boolean isLow(int limit) {
+        return remaining() < Math.min(limit, size());
+    }
+
+    public long weight() {
+        return questionIds.length + candidateIds.length + 1;
+    }
+
+    // 아직 답하지 않은 질문의 인덱스를 앞에서부터 limit 개
+    public int[] peek(int limit) {
+        int[] indexes = new int[Math.min(limit, remaining())];
+        int count = 0;
+        for (int i = 0; i < size() && count < indexes.length; i++) {
+            if ((consumed & (1L << i)) == 0) {
+                indexes[count++] = i;
+            }
+        }
+        return indexes;
+    }
+
+    public long questionId(int index) {
+        return questionIds[index];
+    }
+
+    public String content(int index) {
+        return contents[index];
+    }
+
+    public long[] candidatesOf(int index) {
+        return Arrays.copyOfRange(candidateIds, candidateOffsets[index], candidateOffsets[index + 1]);
+    }
+
+    public boolean contains(long questionId) {
+        for (long id : questionIds) {
+            if (id == questionId) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 덱에 없거나 이미 답한 질문이면 그대로 둔다
+    public QuestionDeck consume(long questionId) {
+        for (int i = 0; i < size(); i++) {
+            long bit = 1L << i;
+            if (questionIds[i] == questionId && (consumed & bit) == 0) {
+                return new QuestionDeck(questionIds, contents, candidateOffsets, candidateIds, consumed | bit);
+            }
+        }
+        return this;
+    }
+}
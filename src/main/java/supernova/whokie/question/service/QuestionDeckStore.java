@@ -0,0 +1,146 @@
+package supernova.whokie.question.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import supernova.whokie.friend.infrastructure.cache.FriendGraphCache;
+import supernova.whokie.global.cache.CacheStats;
+import supernova.whokie.global.cache.CacheStatsSource;
+import supernova.whokie.global.cache.LruCache;
+import supernova.whokie.global.util.RandomSampler;
+import supernova.whokie.question.Question;
+import supernova.whokie.question.repository.QuestionRepository;
+
+// user id -> 미리 뽑아 둔 공통 질문 덱. 덱이 있는 유저를 활성 유저로 보고 백그라운드에서 다시 채운다
+@Component
+public class QuestionDeckStore implements CacheStatsSource {
+
+    private static final Logger log = LoggerFactory.getLogger(QuestionDeckStore.class);
+
+    private final QuestionIdIndex questionIdIndex;
+    private final QuestionRepository questionRepository;
+    private final FriendGraphCache friendGraphCache;
+
+    private final LruCache<Long, QuestionDeck> decks;
+    private final int deckSize;
+    private final int questionLimit;
+    private final int friendLimit;
+    private final int refillBatchSize;
+
+    public QuestionDeckStore(
+        QuestionIdIndex questionIdIndex,
+        QuestionRepository questionRepository,
+        FriendGraphCache friendGraphCache,
+        @Value("${question-deck-cache-max-ids}") long maxDeckIds,
+        @Value("${question-deck-ttl-seconds}") long deckTtlSeconds,
+        @Value("${question-deck-size}") int deckSize,
+        @Value("${question-limit}") int questionLimit,
+        @Value("${friend-limit}") int friendLimit,
+        @Value("${question-deck-refill-batch-size}") int refillBatchSize
+    ) {
+        this.questionIdIndex = questionIdIndex;
+        this.questionRepository = questionRepository;
+        this.friendGraphCache = friendGraphCache;
+        this.decks = new LruCache<>(maxDeckIds, QuestionDeck::weight, Duration.ofSeconds(deckTtlSeconds));
+        // 답한 질문을 long 비트마스크로 표시하므로 덱 크기는 64를 넘을 수 없다
+        this.deckSize = Math.min(Math.max(deckSize, questionLimit), QuestionDeck.MAX_SIZE);
+        this.questionLimit = questionLimit;
+        this.friendLimit = friendLimit;
+        this.refillBatchSize = refillBatchSize;
+    }
+
+    // 남은 질문이 한 화면 분량보다 적은 덱은 null로 돌려 호출하는 쪽에서 다시 뽑게 한다
+    public QuestionDeck getIfFresh(Long userId) {
+        QuestionDeck deck = decks.getIfPresent(userId);
+        if (deck == null || deck.isLow(questionLimit)) {
+            return null;
+        }
+        return deck;
+    }
+
+    public QuestionDeck regenerate(Long userId) {
+        QuestionDeck stale = decks.getIfPresent(userId);
+        if (stale == null) {
+            // 생성 도중 친구 변경으로 무효화됐다면 캐싱되지 않는다
+            return decks.get(userId, id -> generate(List.of(id)).get(id));
+        }
+        QuestionDeck fresh = generate(List.of(userId)).get(userId);
+        decks.replace(userId, stale, fresh);
+        return fresh;
+    }
+
+    public void consume(Long userId, Long questionId) {
+        decks.update(userId, deck -> deck.consume(questionId));
+    }
+
+    public void evict(Long userId) {
+        decks.invalidate(userId);
+    }
+
+    // 거절되거나 지워진 질문은 답한 것으로 표시해 남은 덱에서 바로 빠지게 한다
+    public void discardQuestion(Long questionId) {
+        decks.snapshot(deck -> deck.contains(questionId))
+            .keySet()
+            .forEach(userId -> consume(userId, questionId));
+    }
+
+    // 요청 경로에서 덱을 다시 뽑지 않도록, 두 화면 분량도 남지 않은 덱을 미리 채워 둔다.
+    // 다른 스케줄 작업을 오래 막지 않도록 한 주기에 refillBatchSize 개까지만 채우고 나머지는 다음 주기로 넘긴다
+    @Scheduled(fixedDelayString = "${question-deck-refill-interval-ms}")
+    public void refill() {
+        Map<Long, QuestionDeck> lowDecks = decks.snapshot(deck -> deck.isLow(questionLimit * 2)).entrySet().stream()
+            .limit(refillBatchSize)
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        if (lowDecks.isEmpty()) {
+            return;
+        }
+        try {
+            Map<Long, QuestionDeck> fresh = generate(lowDecks.keySet());
+            // 그 사이 답변, 친구 변경으로 바뀐 덱은 덮어쓰지 않고 다음 주기나 요청 경로에 맡긴다
+            long replaced = fresh.entrySet().stream()
+                .filter(entry -> decks.replace(entry.getKey(), lowDecks.get(entry.getKey()), entry.getValue()))
+                .count();
+            log.debug("Question deck refill - {} of {} decks replaced", replaced, lowDecks.size());
+        } catch (RuntimeException e) {
+            log.error("Question deck refill failed - {} decks will be retried", lowDecks.size(), e);
+        }
+    }
+
+    // 질문 내용은 모든 유저 덱에 대해 한 번에 조회하고, 후보는 질문마다 친구 중에서 독립적으로 뽑는다
+    private Map<Long, QuestionDeck> generate(Collection<Long> userIds) {
+        Map<Long, List<Long>> questionIdsByUser = new HashMap<>();
+        Set<Long> allQuestionIds = new LinkedHashSet<>();
+        for (Long userId : userIds) {
+            List<Long> questionIds = questionIdIndex.sample(deckSize);
+            questionIdsByUser.put(userId, questionIds);
+            allQuestionIds.addAll(questionIds);
+        }
+
+        Map<Long, String> contents = questionRepository.findAllById(new ArrayList<>(allQuestionIds)).stream()
+            .collect(Collectors.toMap(Question::getId, Question::getContent));
+
+        Map<Long, QuestionDeck> generated = new HashMap<>();
+        for (Long userId : userIds) {
+            long[] friendIds = friendGraphCache.getFriendIds(userId);
+            generated.put(userId, QuestionDeck.of(questionIdsByUser.get(userId), contents,
+                () -> RandomSampler.sample(friendIds, friendLimit)));
+        }
+        return generated;
+    }
+
+    @Override
+    public Map<String, CacheStats> stats() {
+        return Map.of("questionDecks", decks.stats());
+    }
+}
@@ -0,0 +1,86 @@
+package supernova.whokie.question.service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import supernova.whokie.global.util.RandomSampler;
+import supernova.whokie.question.repository.QuestionRepository;
+
+@Component
+@RequiredArgsConstructor
+public class QuestionIdIndex {
+
+    private final QuestionRepository questionRepository;
+
+    // 거절되지 않은 질문 id 밀집 배열. 읽기는 락 없이 스냅샷으로, 쓰기(질문 생성, 상태 변경)는 copy-on-write
+    private volatile long[] ids;
+    // DB 조회 중에 virtual thread가 carrier에 고정되지 않도록 synchronized 대신 ReentrantLock을 쓴다
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public List<Long> sample(int limit) {
+        return RandomSampler.sample(load(), limit);
+    }
+
+    public void add(Long id) {
+        lock.lock();
+        try {
+            long[] current = ids;
+            if (current == null) {
+                // 아직 로딩 전이면 첫 조회 때 DB에서 함께 읽힌다
+                return;
+            }
+            for (long existing : current) {
+                if (existing == id) {
+                    return;
+                }
+            }
+            long[] next = Arrays.copyOf(current, current.length + 1);
+            next[current.length] = id;
+            ids = next;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.lock();
+        try {
+            long[] current = ids;
+            if (current == null) {
+                return;
+            }
+            long[] next = Arrays.stream(current)
+                .filter(existing -> existing != id)
+                .toArray();
+            if (next.length != current.length) {
+                ids = next;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        return load().length;
+    }
+
+    private long[] load() {
+        long[] snapshot = ids;
+        if (snapshot != null) {
+            return snapshot;
+        }
+        lock.lock();
+        try {
+            if (ids == null) {
+                ids = questionRepository.findAllIdsNotRejected().stream()
+                    .mapToLong(Long::longValue)
+                    .toArray();
+            }
+            return ids;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
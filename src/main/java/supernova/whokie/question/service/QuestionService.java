@@ -1,25 +1,31 @@
 package supernova.whokie.question.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import supernova.whokie.friend.Friend;
-import supernova.whokie.friend.infrastructure.repository.FriendRepository;
+import supernova.whokie.friend.infrastructure.cache.FriendGraphCache;
 import supernova.whokie.global.constants.Constants;
+import supernova.whokie.global.dto.Cursor;
+import supernova.whokie.global.dto.SliceResponse;
 import supernova.whokie.global.exception.EntityNotFoundException;
+import supernova.whokie.global.util.RandomSampler;
 import supernova.whokie.group.Groups;
 import supernova.whokie.group.repository.GroupsRepository;
 import supernova.whokie.group_member.GroupMember;
+import supernova.whokie.group_member.infrastructure.cache.GroupMemberCache;
 import supernova.whokie.group_member.infrastructure.repository.GroupMemberRepository;
 import supernova.whokie.group_member.service.dto.GroupMemberModel;
 import supernova.whokie.group_member.service.dto.GroupMemberModel.Option;
 import supernova.whokie.question.Question;
 import supernova.whokie.question.QuestionStatus;
+import supernova.whokie.question.event.QuestionEventDto;
 import supernova.whokie.question.service.dto.QuestionCommand;
 import supernova.whokie.question.service.dto.QuestionModel;
 import supernova.whokie.question.repository.QuestionRepository;
@@ -29,9 +35,15 @@ import supernova.whokie.user.controller.dto.UserResponse;
 import supernova.whokie.user.infrastructure.repository.UserRepository;
 import supernova.whokie.user.service.dto.UserModel;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+@Timed("whokie.service")
 @Service
 @RequiredArgsConstructor
 public class QuestionService {
@@ -43,21 +55,29 @@ public class QuestionService {
     private int questionLimit;
 
     private final QuestionRepository questionRepository;
-    private final FriendRepository friendRepository;
+    private final FriendGraphCache friendGraphCache;
     private final UserRepository userRepository;
     private final GroupsRepository groupsRepository;
     private final GroupMemberRepository groupMemberRepository;
+    private final GroupMemberCache groupMemberCache;
+    private final QuestionDeckStore questionDeckStore;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<QuestionModel.CommonQuestion> getCommonQuestion(Long userId) {
+        // 미리 뽑아 둔 덱이 있으면 유저 존재만 확인하고 질문, 후보는 다시 뽑지 않는다
+        QuestionDeck deck = questionDeckStore.getIfFresh(userId);
+        if (deck == null) {
+            userRepository.findById(userId).orElseThrow(() -> new EntityNotFoundException("유저가 존재하지 않습니다."));
+            deck = questionDeckStore.regenerate(userId);
+        } else if (!userRepository.existsById(userId)) {
+            questionDeckStore.evict(userId);
+            throw new EntityNotFoundException("유저가 존재하지 않습니다.");
+        }
 
-        Users user = userRepository.findById(userId).orElseThrow(() -> new EntityNotFoundException("유저가 존재하지 않습니다."));
-
-        return getCommonQuestionList(user);
+        return getCommonQuestionList(deck);
     }
 
-
-
     @Transactional(readOnly = true)
     public Page<QuestionModel.Info> getGroupQuestionPaging(Long userId, String groupId, Boolean status, Pageable pageable) {
         Long parsedGroupId = Long.parseLong(groupId);
@@ -66,54 +86,58 @@ public class QuestionService {
         Groups group = groupsRepository.findById(parsedGroupId)
                 .orElseThrow(() -> new EntityNotFoundException("그룹이 존재하지 않습니다."));
 
-        List<Question> groupQuestions = questionRepository.findAllByGroupId(parsedGroupId);
+        QuestionStatus questionStatus = QuestionStatus.fromApproval(status);
+        if (questionStatus == null) {
+            return Page.empty(pageable);
+        }
 
-        return getGroupQuestionsByStatus(status, groupQuestions, pageable);
+        return questionRepository.findAllByGroupIdAndStatus(parsedGroupId, questionStatus, pageable)
+                .map(question -> QuestionModel.Info.from(question, status));
     }
 
-    private static Page<QuestionModel.Info> getGroupQuestionsByStatus(Boolean status, List<Question> groupQuestions, Pageable pageable) {
-        List<Question> filteredQuestions;
-
+    @Transactional(readOnly = true)
+    public SliceResponse<QuestionModel.Info> getGroupQuestionSlice(Long userId, Long groupId, Boolean status,
+            String cursor, int size) {
+        userRepository.findById(userId)
+                .orElseThrow(() -> new EntityNotFoundException("유저가 존재하지 않습니다."));
+        groupsRepository.findById(groupId)
+                .orElseThrow(() -> new EntityNotFoundException("그룹이 존재하지 않습니다."));
 
-        if (Boolean.TRUE.equals(status)) {
-            filteredQuestions = groupQuestions.stream()
-                    .filter(question -> question.getQuestionStatus().equals(QuestionStatus.APPROVED))
-                    .toList();
-        } else if (Boolean.FALSE.equals(status)) {
-            filteredQuestions = groupQuestions.stream()
-                    .filter(question -> question.getQuestionStatus().equals(QuestionStatus.REJECTED))
-                    .toList();
-        } else {
-            filteredQuestions = new ArrayList<>();
+        QuestionStatus questionStatus = QuestionStatus.fromApproval(status);
+        if (questionStatus == null) {
+            return SliceResponse.empty(size);
         }
 
+        Cursor position = Cursor.decode(cursor);
+        Slice<Question> questions = questionRepository.findSliceByGroupIdAndStatus(
+                groupId, questionStatus, position.createdAt(), position.id(), PageRequest.of(0, size));
 
-        int start = (int) pageable.getOffset();
-        int end = Math.min(start + pageable.getPageSize(), filteredQuestions.size());
-        List<QuestionModel.Info> result = filteredQuestions.subList(start, end).stream()
-                .map(question -> QuestionModel.Info.from(question, status))
-                .toList();
-
-        return new PageImpl<>(result, pageable, filteredQuestions.size());
+        return SliceResponse.from(questions, question -> QuestionModel.Info.from(question, status),
+                question -> new Cursor(question.getCreatedAt(), question.getId()));
     }
 
-
-    private List<QuestionModel.CommonQuestion> getCommonQuestionList(Users user) {
-        Pageable pageable = PageRequest.of(0, questionLimit);
-
-        List<Question> randomQuestions = questionRepository.findRandomQuestions(pageable);
-
-        return randomQuestions.stream()
-                .map(question -> QuestionModel.CommonQuestion.from(question, getFriendList(user)))
+    private List<QuestionModel.CommonQuestion> getCommonQuestionList(QuestionDeck deck) {
+        int[] indexes = deck.peek(questionLimit);
+
+        // 덱에 담긴 후보들을 한 번에 조회
+        long[] pickedIds = Arrays.stream(indexes)
+                .mapToObj(deck::candidatesOf)
+                .flatMapToLong(Arrays::stream)
+                .distinct()
+                .toArray();
+        Map<Long, UserModel.PickedInfo> pickedInfos = friendGraphCache.getPickedInfos(pickedIds).stream()
+                .collect(Collectors.toMap(UserModel.PickedInfo::userId, Function.identity()));
+
+        return Arrays.stream(indexes)
+                .mapToObj(i -> QuestionModel.CommonQuestion.from(deck.questionId(i), deck.content(i),
+                        toPickedInfos(deck.candidatesOf(i), pickedInfos)))
                 .toList();
     }
 
-    private List<UserModel.PickedInfo> getFriendList(Users user) {
-        Pageable pageable = PageRequest.of(0, friendLimit);
-        List<Friend> randomFriends = friendRepository.findRandomFriendsByHostUser(user.getId(), pageable);
-
-        return randomFriends.stream()
-                .map(friend -> UserModel.PickedInfo.from(friend.getFriendUser()))
+    private static List<UserModel.PickedInfo> toPickedInfos(long[] ids, Map<Long, UserModel.PickedInfo> pickedInfos) {
+        return Arrays.stream(ids)
+                .mapToObj(pickedInfos::get)
+                .filter(Objects::nonNull)
                 .toList();
     }
 
@@ -124,17 +148,33 @@ public class QuestionService {
         Pageable pageable = PageRequest.of(0, questionLimit);
         List<Question> randomQuestions = questionRepository.findRandomGroupQuestions(groupId, pageable);
 
-        return randomQuestions.stream()
-            .map(question -> QuestionModel.GroupQuestion.from(question, getGroupMemberList(userId, groupId)))
+        // 멤버 id는 스냅샷에서 한 번만 읽고, 질문마다 본인을 뺀 후보를 독립적으로 뽑는다
+        long[] memberIds = groupMemberCache.getMemberUserIds(groupId);
+        List<List<Long>> candidateIds = randomQuestions.stream()
+            .map(question -> RandomSampler.sampleExcluding(memberIds, friendLimit, userId))
             .toList();
-    }
 
-    private List<GroupMemberModel.Option> getGroupMemberList(Long userId, Long groupId) {
-        Pageable pageable = PageRequest.of(0, friendLimit);
-        List<GroupMember> randomGroupMembers = groupMemberRepository.getRandomGroupMember(userId, groupId, pageable);
+        // 뽑힌 멤버들을 한 번에 조회. 스냅샷 이후 나간 멤버는 여기서 빠진다
+        List<Long> pickedIds = candidateIds.stream()
+            .flatMap(List::stream)
+            .distinct()
+            .toList();
+        Map<Long, GroupMemberModel.Option> options = pickedIds.isEmpty()
+            ? Map.of()
+            : groupMemberRepository.findMembersByGroupIdAndUserIdIn(groupId, pickedIds).stream()
+                .map(Option::from)
+                .collect(Collectors.toMap(Option::userId, Function.identity()));
+
+        return IntStream.range(0, randomQuestions.size())
+            .mapToObj(i -> QuestionModel.GroupQuestion.from(randomQuestions.get(i),
+                toOptions(candidateIds.get(i), options)))
+            .toList();
+    }
 
-        return randomGroupMembers.stream()
-            .map(Option::from)
+    private static List<GroupMemberModel.Option> toOptions(List<Long> ids, Map<Long, GroupMemberModel.Option> options) {
+        return ids.stream()
+            .map(options::get)
+            .filter(Objects::nonNull)
             .toList();
     }
 
@@ -147,6 +187,7 @@ public class QuestionService {
         Question question = command.toEntity(groupMember.getUser());
 
         questionRepository.save(question);
+        eventPublisher.publishEvent(QuestionEventDto.Create.toDto(question.getId()));
     }
 
     public void validateApprovalStatus(GroupMember groupMember) {
@@ -166,5 +207,6 @@ public class QuestionService {
             .orElseThrow(() -> new EntityNotFoundException("그룹 내에 해당 질문이 존재하지 않습니다."));
 
         question.changeStatus(command.status());
+        eventPublisher.publishEvent(QuestionEventDto.StatusChanged.toDto(question.getId(), question.getQuestionStatus()));
     }
 }
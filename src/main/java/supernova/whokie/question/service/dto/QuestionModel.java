@@ -24,6 +24,14 @@ public class QuestionModel {
                     .build();
         }
 
+        public static QuestionModel.CommonQuestion from(Long questionId, String content, List<UserModel.PickedInfo> friendList) {
+            return CommonQuestion.builder()
+                    .questionId(questionId)
+                    .content(content)
+                    .users(friendList)
+                    .build();
+        }
+
     }
 
     @Builder
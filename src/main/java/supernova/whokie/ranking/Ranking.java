@@ -10,6 +10,8 @@ import supernova.whokie.user.Users;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
 @Getter
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_ranking_user_group_question",
+    columnNames = {"user_id", "group_id", "question_id"}))
 public class Ranking {
 
     @Id
@@ -19,6 +21,8 @@ public class Ranking {
     @Column(nullable = false)
     private String question;
 
+    private Long questionId;
+
     @Column(nullable = false)
     private Integer count;
 
@@ -27,6 +31,14 @@ public class Ranking {
     private Users users;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "group_id", nullable = false)
-    private Groups groups;
+    @JoinColumn(name = "group_id")
+    private Groups groups; // 공통 질문이면 null
+
+    public String getGroupName() {
+        return groups == null ? null : groups.getGroupName();
+    }
+
+    public Long getGroupId() {
+        return groups == null ? null : groups.getId();
+    }
 }
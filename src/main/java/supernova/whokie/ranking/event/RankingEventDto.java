@@ -0,0 +1,25 @@
+package supernova.whokie.ranking.event;
+
+import lombok.Builder;
+
+public class RankingEventDto {
+
+    @Builder
+    public record Pick(
+        Long pickedId,
+        Long groupId,
+        String groupName,
+        Long questionId,
+        String questionContent
+    ) {
+        public static RankingEventDto.Pick toDto(Long pickedId, Long groupId, String groupName, Long questionId, String questionContent) {
+            return Pick.builder()
+                    .pickedId(pickedId)
+                    .groupId(groupId)
+                    .groupName(groupName)
+                    .questionId(questionId)
+                    .questionContent(questionContent)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package supernova.whokie.ranking.event;
+
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import supernova.whokie.ranking.service.RankingAggregator;
+
+@Component
+@AllArgsConstructor
+public class RankingEventHandler {
+    private final RankingAggregator rankingAggregator;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void pickListener(RankingEventDto.Pick event) {
+        rankingAggregator.record(event);
+    }
+}
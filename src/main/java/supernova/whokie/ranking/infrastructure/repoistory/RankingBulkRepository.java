@@ -0,0 +1,84 @@
+package supernova.whokie.ranking.infrastructure.repoistory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import supernova.whokie.ranking.service.dto.RankingDelta;
+
+@Timed("whokie.repository")
+@Repository
+@RequiredArgsConstructor
+public class RankingBulkRepository {
+
+    private static final String UPDATE_GROUP_SQL =
+        "UPDATE ranking SET count = count + ? WHERE user_id = ? AND group_id = ? AND question_id = ?";
+    private static final String UPDATE_COMMON_SQL =
+        "UPDATE ranking SET count = count + ? WHERE user_id = ? AND group_id IS NULL AND question_id = ?";
+    private static final String INSERT_SQL =
+        "INSERT INTO ranking (question, question_id, count, user_id, group_id) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 기존 행은 count를 더하고, 없는 행만 새로 넣는다
+    @Transactional
+    public void upsertAll(Collection<RankingDelta> deltas) {
+        List<RankingDelta> groupDeltas = deltas.stream().filter(delta -> delta.groupId() != null).toList();
+        List<RankingDelta> commonDeltas = deltas.stream().filter(delta -> delta.groupId() == null).toList();
+
+        List<RankingDelta> missing = new ArrayList<>();
+        missing.addAll(update(UPDATE_GROUP_SQL, groupDeltas, true));
+        missing.addAll(update(UPDATE_COMMON_SQL, commonDeltas, false));
+
+        if (!missing.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, missing.stream()
+                .map(delta -> new Object[]{delta.question(), delta.questionId(), delta.count(), delta.userId(), delta.groupId()})
+                .toList());
+        }
+    }
+
+    // 한 행씩 반영한다. 다른 flush가 먼저 넣어 유니크 키에 걸리면 그 행에 더한다
+    @Transactional
+    public void upsert(RankingDelta delta) {
+        if (updateOne(delta) > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(INSERT_SQL, delta.question(), delta.questionId(), delta.count(), delta.userId(),
+                delta.groupId());
+        } catch (DuplicateKeyException e) {
+            updateOne(delta);
+        }
+    }
+
+    private int updateOne(RankingDelta delta) {
+        return delta.groupId() == null
+            ? jdbcTemplate.update(UPDATE_COMMON_SQL, delta.count(), delta.userId(), delta.questionId())
+            : jdbcTemplate.update(UPDATE_GROUP_SQL, delta.count(), delta.userId(), delta.groupId(), delta.questionId());
+    }
+
+    private List<RankingDelta> update(String sql, List<RankingDelta> deltas, boolean withGroup) {
+        if (deltas.isEmpty()) {
+            return List.of();
+        }
+        // rewriteBatchedStatements를 켜도 UPDATE 배치는 행마다 결과를 돌려주므로 행별 갱신 수를 그대로 쓸 수 있다
+        int[] updated = jdbcTemplate.batchUpdate(sql, deltas.stream()
+            .map(delta -> withGroup
+                ? new Object[]{delta.count(), delta.userId(), delta.groupId(), delta.questionId()}
+                : new Object[]{delta.count(), delta.userId(), delta.questionId()})
+            .toList());
+
+        List<RankingDelta> missing = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                missing.add(deltas.get(i));
+            }
+        }
+        return missing;
+    }
+}
@@ -1,10 +1,13 @@
 package supernova.whokie.ranking.infrastructure.repoistory;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import supernova.whokie.ranking.Ranking;
 
 import java.util.List;
 
 public interface RankingRepository extends JpaRepository<Ranking, Long> {
-    List<Ranking> findTop3ByUsers_IdOrderByCountDesc(Long userId);
+    @Query("SELECT r FROM Ranking r LEFT JOIN FETCH r.groups WHERE r.users.id = :userId")
+    List<Ranking> findAllByUserIdFetchJoin(@Param("userId") Long userId);
 }
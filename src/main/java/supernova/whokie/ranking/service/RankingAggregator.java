@@ -0,0 +1,200 @@
+package supernova.whokie.ranking.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import supernova.whokie.global.cache.LruCache;
+import supernova.whokie.ranking.Ranking;
+import supernova.whokie.ranking.event.RankingEventDto;
+import supernova.whokie.ranking.infrastructure.repoistory.RankingBulkRepository;
+import supernova.whokie.ranking.infrastructure.repoistory.RankingRepository;
+import supernova.whokie.ranking.service.dto.RankingDelta;
+import supernova.whokie.ranking.service.dto.RankingModel;
+
+// 답변이 들어올 때마다 랭킹을 메모리에서 갱신하고, 모아 둔 증가분을 주기적으로 Ranking 테이블에 반영한다
+@Component
+public class RankingAggregator {
+
+    private static final Logger log = LoggerFactory.getLogger(RankingAggregator.class);
+    private static final int TOP_K = 3;
+    private static final int MAX_OPTIMISTIC_LOADS = 2;
+
+    private final RankingRepository rankingRepository;
+    private final RankingBulkRepository rankingBulkRepository;
+    private final LruCache<Long, UserRanking> userRankings;
+
+    // flush 도중에는 DB와 pending 어느 쪽에도 없는 증가분이 생기므로, 로딩 결과는 flush와 겹치지 않았을 때만 쓴다
+    private final ReentrantLock flushLock = new ReentrantLock();
+    // flush를 시작할 때와 끝낼 때 하나씩 올리므로, 홀수면 flush 중이다
+    private long flushGeneration;
+    // 사용자별로 묶어 두어 로딩할 때 그 사용자의 증가분만 꺼내 본다
+    private Map<Long, Map<PendingKey, RankingDelta>> pending = new HashMap<>();
+
+    public RankingAggregator(
+        RankingRepository rankingRepository,
+        RankingBulkRepository rankingBulkRepository,
+        @Value("${ranking-cache-max-users}") long maxUsers
+    ) {
+        this.rankingRepository = rankingRepository;
+        this.rankingBulkRepository = rankingBulkRepository;
+        this.userRankings = LruCache.ofSize(maxUsers);
+    }
+
+    public synchronized void record(RankingEventDto.Pick event) {
+        RankingDelta delta = new RankingDelta(event.pickedId(), event.groupId(), event.groupName(),
+            event.questionId(), event.questionContent(), 1);
+        mergePending(delta);
+
+        UserRanking userRanking = userRankings.getIfPresent(event.pickedId());
+        if (userRanking != null) {
+            userRanking.apply(delta);
+        }
+    }
+
+    public List<RankingModel.Rank> getTopRanks(Long userId) {
+        synchronized (this) {
+            UserRanking userRanking = userRankings.getIfPresent(userId);
+            if (userRanking != null) {
+                return userRanking.topRanks();
+            }
+        }
+        return load(userId);
+    }
+
+    @Scheduled(fixedDelayString = "${ranking-flush-interval-ms}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<RankingDelta> snapshot;
+            synchronized (this) {
+                if (pending.isEmpty()) {
+                    return;
+                }
+                snapshot = pending.values().stream()
+                    .flatMap(deltas -> deltas.values().stream())
+                    .toList();
+                pending = new HashMap<>();
+                flushGeneration++;
+            }
+
+            try {
+                rankingBulkRepository.upsertAll(snapshot);
+            } catch (RuntimeException e) {
+                // 한 행의 실패가 배치 전체를 되돌리므로, 한 행씩 다시 반영해 실패한 행만 골라낸다
+                log.warn("Ranking batch flush failed - retrying {} rows one by one", snapshot.size(), e);
+                flushOneByOne(snapshot);
+            } finally {
+                synchronized (this) {
+                    flushGeneration++;
+                }
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // DB 장애처럼 다시 시도하면 성공할 실패는 남은 행과 함께 pending으로 돌리고,
+    // 제약 위반처럼 매번 실패할 행은 로그로 남기고 따로 빼서 다른 행을 막지 않게 한다
+    private void flushOneByOne(List<RankingDelta> snapshot) {
+        for (int i = 0; i < snapshot.size(); i++) {
+            RankingDelta delta = snapshot.get(i);
+            try {
+                rankingBulkRepository.upsert(delta);
+            } catch (RuntimeException e) {
+                if (!isTransient(e)) {
+                    log.error("Ranking row rejected - {}", delta, e);
+                    continue;
+                }
+                log.error("Ranking flush failed - {} rows will be retried", snapshot.size() - i, e);
+                synchronized (this) {
+                    snapshot.subList(i, snapshot.size()).forEach(this::mergePending);
+                }
+                return;
+            }
+        }
+    }
+
+    private static boolean isTransient(RuntimeException e) {
+        return e instanceof TransientDataAccessException
+            || e instanceof RecoverableDataAccessException
+            || e instanceof DataAccessResourceFailureException
+            || e instanceof CannotCreateTransactionException;
+    }
+
+    // 조회는 flushLock 밖에서 하고, 그 사이 flush가 시작되거나 끝났으면 결과를 버리고 다시 읽는다
+    private List<RankingModel.Rank> load(Long userId) {
+        for (int attempt = 0; attempt < MAX_OPTIMISTIC_LOADS; attempt++) {
+            long generation;
+            synchronized (this) {
+                UserRanking userRanking = userRankings.getIfPresent(userId);
+                if (userRanking != null) {
+                    return userRanking.topRanks();
+                }
+                generation = flushGeneration;
+            }
+            if (generation % 2 != 0) {
+                break;
+            }
+
+            List<Ranking> rankings = rankingRepository.findAllByUserIdFetchJoin(userId);
+            synchronized (this) {
+                if (flushGeneration == generation) {
+                    return cache(userId, rankings);
+                }
+            }
+        }
+
+        // flush와 계속 겹치면 flush가 끝나기를 기다렸다가 읽는다
+        flushLock.lock();
+        try {
+            List<Ranking> rankings = rankingRepository.findAllByUserIdFetchJoin(userId);
+            synchronized (this) {
+                return cache(userId, rankings);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 호출하는 쪽에서 this의 모니터를 잡고 있어야 한다
+    private List<RankingModel.Rank> cache(Long userId, List<Ranking> rankings) {
+        UserRanking userRanking = userRankings.getIfPresent(userId);
+        if (userRanking == null) {
+            userRanking = UserRanking.from(rankings, TOP_K);
+            for (RankingDelta delta : pending.getOrDefault(userId, Map.of()).values()) {
+                userRanking.apply(delta);
+            }
+            userRankings.put(userId, userRanking);
+        }
+        return userRanking.topRanks();
+    }
+
+    // 호출하는 쪽에서 this의 모니터를 잡고 있어야 한다
+    private void mergePending(RankingDelta delta) {
+        pending.computeIfAbsent(delta.userId(), userId -> new HashMap<>())
+            .merge(PendingKey.from(delta), delta, (prev, next) -> prev.plus(next.count()));
+    }
+
+    private record PendingKey(Long userId, Long groupId, Long questionId) {
+
+        static PendingKey from(RankingDelta delta) {
+            return new PendingKey(delta.userId(), delta.groupId(), delta.questionId());
+        }
+    }
+}
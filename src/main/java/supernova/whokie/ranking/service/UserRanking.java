@@ -0,0 +1,99 @@
+package supernova.whokie.ranking.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import supernova.whokie.ranking.Ranking;
+import supernova.whokie.ranking.service.dto.RankingDelta;
+import supernova.whokie.ranking.service.dto.RankingModel;
+
+// 한 유저의 (그룹, 질문)별 선택 횟수와 상위 K개. RankingAggregator의 락 안에서만 사용한다
+class UserRanking {
+
+    private static final Comparator<Entry> BY_COUNT_DESC = Comparator.comparingInt((Entry entry) -> entry.count).reversed();
+
+    private final Map<Key, Entry> entries = new HashMap<>();
+    private final Entry[] top;
+    private int topSize;
+
+    UserRanking(int topK) {
+        this.top = new Entry[topK];
+    }
+
+    static UserRanking from(List<Ranking> rankings, int topK) {
+        UserRanking userRanking = new UserRanking(topK);
+        for (Ranking ranking : rankings) {
+            Entry entry = userRanking.entry(ranking.getGroupId(), ranking.getQuestionId(), ranking.getQuestion(), ranking.getGroupName());
+            entry.rankingId = ranking.getId();
+            userRanking.increase(entry, ranking.getCount());
+        }
+        return userRanking;
+    }
+
+    void apply(RankingDelta delta) {
+        Entry entry = entry(delta.groupId(), delta.questionId(), delta.question(), delta.groupName());
+        increase(entry, delta.count());
+    }
+
+    List<RankingModel.Rank> topRanks() {
+        List<RankingModel.Rank> ranks = new ArrayList<>(topSize);
+        for (int i = 0; i < topSize; i++) {
+            Entry entry = top[i];
+            ranks.add(RankingModel.Rank.builder()
+                .rankingId(entry.rankingId)
+                .question(entry.question)
+                .rank(i + 1)
+                .count(entry.count)
+                .groupName(entry.groupName)
+                .build());
+        }
+        return ranks;
+    }
+
+    private Entry entry(Long groupId, Long questionId, String question, String groupName) {
+        return entries.computeIfAbsent(new Key(groupId, questionId), key -> new Entry(question, groupName));
+    }
+
+    // count는 증가만 하므로 상위 K개 밖의 항목은 최솟값을 넘을 때만 들어온다
+    private void increase(Entry entry, int delta) {
+        entry.count += delta;
+        if (!contains(entry)) {
+            if (topSize < top.length) {
+                top[topSize++] = entry;
+            } else if (entry.count > top[topSize - 1].count) {
+                top[topSize - 1] = entry;
+            } else {
+                return;
+            }
+        }
+        Arrays.sort(top, 0, topSize, BY_COUNT_DESC);
+    }
+
+    private boolean contains(Entry entry) {
+        for (int i = 0; i < topSize; i++) {
+            if (top[i] == entry) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record Key(Long groupId, Long questionId) {
+
+    }
+
+    private static final class Entry {
+        private Long rankingId;
+        private final String question;
+        private final String groupName;
+        private int count;
+
+        private Entry(String question, String groupName) {
+            this.question = question;
+            this.groupName = groupName;
+        }
+    }
+}
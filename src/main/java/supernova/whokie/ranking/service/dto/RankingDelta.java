@@ -0,0 +1,16 @@
+package supernova.whokie.ranking.service.dto;
+
+// 아직 DB에 반영되지 않은 (유저, 그룹, 질문) 선택 횟수
+public record RankingDelta(
+    Long userId,
+    Long groupId,
+    String groupName,
+    Long questionId,
+    String question,
+    int count
+) {
+
+    public RankingDelta plus(int delta) {
+        return new RankingDelta(userId, groupId, groupName, questionId, question, count + delta);
+    }
+}
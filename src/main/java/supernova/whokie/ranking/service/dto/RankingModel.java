@@ -19,7 +19,7 @@ public class RankingModel {
                     .question(entity.getQuestion())
                     .rank(rank)
                     .count(entity.getCount())
-                    .groupName(entity.getGroups().getGroupName())
+                    .groupName(entity.getGroupName())
                     .build();
         }
     }
@@ -3,6 +3,7 @@ package supernova.whokie.user;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
+import java.util.Objects;
 import lombok.*;
 import supernova.whokie.global.entity.BaseTimeEntity;
 
@@ -24,6 +25,7 @@ public class Users extends BaseTimeEntity {
     @Column(unique = true)
     private String email;
 
+    // 잔액은 point_account에서 관리한다. 이 값은 계정을 처음 만들 때 초기 잔액으로만 읽힌다
     @NotNull
     @Min(0)
     private Integer point;
@@ -44,15 +46,14 @@ public class Users extends BaseTimeEntity {
     @NotNull
     private Role role;
 
-    public void increasePoint(int point) {
-        this.point += point;
-    }
-
-    public boolean hasNotEnoughPoint(int point) {
-        return this.point < point;
-    }
-
-    public void decreasePoint(int point) {
-        this.point -= point;
+    // 카카오에서 바뀐 이름과 프로필 이미지를 반영하고, 실제로 바뀌었는지 돌려준다
+    public boolean updateKakaoProfile(String name, String imageUrl) {
+        String nextName = name == null ? this.name : name;
+        if (Objects.equals(this.name, nextName) && Objects.equals(this.imageUrl, imageUrl)) {
+            return false;
+        }
+        this.name = nextName;
+        this.imageUrl = imageUrl;
+        return true;
     }
 }
@@ -0,0 +1,17 @@
+package supernova.whokie.user.event;
+
+import lombok.Builder;
+
+public class UserEventDto {
+
+    @Builder
+    public record Changed(
+        Long userId
+    ) {
+        public static UserEventDto.Changed toDto(Long userId) {
+            return Changed.builder()
+                    .userId(userId)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package supernova.whokie.user.event;
+
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import supernova.whokie.profile.infrastructure.cache.ProfileInfoCache;
+import supernova.whokie.user.infrastructure.cache.UserInfoCache;
+
+@Component
+@AllArgsConstructor
+public class UserEventHandler {
+    private final UserInfoCache userInfoCache;
+    private final ProfileInfoCache profileInfoCache;
+
+    // 프로필 스냅샷에도 유저 이름이 들어가므로 같이 비운다
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void evictUserInfoListener(UserEventDto.Changed dto) {
+        userInfoCache.evict(dto.userId());
+        profileInfoCache.evict(dto.userId());
+    }
+}
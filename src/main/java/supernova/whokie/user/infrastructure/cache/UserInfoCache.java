@@ -0,0 +1,44 @@
+package supernova.whokie.user.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import supernova.whokie.global.cache.CacheStats;
+import supernova.whokie.global.cache.CacheStatsSource;
+import supernova.whokie.global.cache.LruCache;
+import supernova.whokie.global.exception.EntityNotFoundException;
+import supernova.whokie.user.infrastructure.repository.UserRepository;
+import supernova.whokie.user.service.dto.UserModel;
+
+// user id -> 마이페이지 정보 스냅샷
+@Component
+public class UserInfoCache implements CacheStatsSource {
+
+    private final UserRepository userRepository;
+    private final LruCache<Long, UserModel.Info> infos;
+
+    public UserInfoCache(
+        UserRepository userRepository,
+        @Value("${user-info-cache-max-size}") long maxSize,
+        @Value("${user-info-cache-ttl-seconds}") long ttlSeconds
+    ) {
+        this.userRepository = userRepository;
+        this.infos = LruCache.ofSize(maxSize, Duration.ofSeconds(ttlSeconds));
+    }
+
+    public UserModel.Info get(Long userId) {
+        return infos.get(userId, id -> userRepository.findById(id)
+            .map(UserModel.Info::from)
+            .orElseThrow(() -> new EntityNotFoundException("User not found")));
+    }
+
+    public void evict(Long userId) {
+        infos.invalidate(userId);
+    }
+
+    @Override
+    public Map<String, CacheStats> stats() {
+        return Map.of("userInfos", infos.stats());
+    }
+}
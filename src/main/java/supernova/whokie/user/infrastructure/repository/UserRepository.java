@@ -2,12 +2,18 @@ package supernova.whokie.user.infrastructure.repository;
 
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import supernova.whokie.user.Users;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface UserRepository extends JpaRepository<Users, Long> {
     Optional<Users> findByEmail(String email);
     List<Users> findByKakaoIdIn(List<Long> kakaoId);
     List<Users> findByIdIn(List<Long> ids);
+
+    @Query("SELECT u.id FROM Users u WHERE u.id IN :ids")
+    List<Long> findIdsByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -2,17 +2,20 @@ package supernova.whokie.user.service;
 
 import java.time.LocalDate;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import supernova.whokie.global.auth.JwtProvider;
-import supernova.whokie.global.exception.EntityNotFoundException;
+import supernova.whokie.point_account.service.PointAccountService;
 import supernova.whokie.profile.Profile;
 import supernova.whokie.profile.infrastructure.ProfileRepository;
 import supernova.whokie.user.Gender;
 import supernova.whokie.user.Role;
 import supernova.whokie.user.Users;
+import supernova.whokie.user.event.UserEventDto;
 import supernova.whokie.user.infrastructure.apiCaller.dto.KakaoAccount;
 import supernova.whokie.user.infrastructure.apiCaller.dto.UserInfoResponse;
+import supernova.whokie.user.infrastructure.cache.UserInfoCache;
 import supernova.whokie.user.infrastructure.repository.UserRepository;
 import supernova.whokie.user.infrastructure.apiCaller.UserApiCaller;
 import supernova.whokie.user.service.dto.UserModel;
@@ -25,6 +28,9 @@ public class UserService {
     private final ProfileRepository profileRepository;
     private final JwtProvider jwtProvider;
     private final UserApiCaller userApiCaller;
+    private final PointAccountService pointAccountService;
+    private final UserInfoCache userInfoCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     public String getCodeUrl() {
         return userApiCaller.createCodeUrl();
@@ -36,6 +42,13 @@ public class UserService {
         KakaoAccount kakaoAccount = userInfoResponse.kakaoAccount();
 
         Users user = userRepository.findByEmail(kakaoAccount.email())
+            .map(existing -> {
+                // 로그인할 때마다 카카오 프로필을 따라가고, 바뀌었으면 이름/이미지를 담은 캐시를 비운다
+                if (existing.updateKakaoProfile(kakaoAccount.name(), kakaoAccount.profile().profileImageUrl())) {
+                    eventPublisher.publishEvent(UserEventDto.Changed.toDto(existing.getId()));
+                }
+                return existing;
+            })
             .orElseGet(() -> {
                 Users newUser = userRepository.save(
                     Users.builder()
@@ -66,17 +79,11 @@ public class UserService {
     }
 
     public UserModel.Info getUserInfo(Long userId) {
-        Users user = userRepository.findById(userId)
-            .orElseThrow(() -> new EntityNotFoundException("User not found"));
-
-        return UserModel.Info.from(user);
+        return userInfoCache.get(userId);
     }
 
     public UserModel.Point getPoint(Long userId) {
-        Users user = userRepository.findById(userId)
-            .orElseThrow(() -> new EntityNotFoundException("User not found"));
-
-        return UserModel.Point.from(user);
+        return UserModel.Point.from(pointAccountService.getBalance(userId));
     }
 
     @Transactional
@@ -105,6 +112,8 @@ public class UserService {
             .build();
 
         profileRepository.save(profile);
+        // 같은 id로 덮어쓰므로 캐시된 스냅샷을 비운다
+        eventPublisher.publishEvent(UserEventDto.Changed.toDto(user.getId()));
 
         String token = jwtProvider.createToken(user.getId(), user.getRole());
         return token;
@@ -51,9 +51,9 @@ public class UserModel {
             int amount
     ) {
 
-        public static UserModel.Point from(Users user) {
+        public static UserModel.Point from(int balance) {
             return UserModel.Point.builder()
-                    .amount(user.getPoint())
+                    .amount(balance)
                     .build();
         }
     }
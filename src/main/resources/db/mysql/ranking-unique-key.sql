@@ -0,0 +1,64 @@
+-- ranking 테이블을 (user_id, group_id, question_id) 유니크 키 기준으로 맞춘다.
+-- spring.jpa.defer-datasource-initialization=true 이므로 Hibernate 스키마 갱신(ddl-auto=update) 뒤 매 기동마다 실행된다.
+-- 몇 번을 돌려도 결과가 같아야 하고, 테이블이나 question_id 컬럼이 아직 없으면 아무것도 하지 않는다.
+SET @ranking_ready = (SELECT COUNT(*) FROM information_schema.columns
+                      WHERE table_schema = DATABASE() AND table_name = 'ranking'
+                        AND column_name IN ('group_id', 'question_id')) = 2;
+
+-- 공통 질문 선택은 group_id가 null이다. ddl-auto=update는 기존 NOT NULL 제약을 풀지 않는다
+SET @ranking_nullable_ddl = IF(@ranking_ready,
+    'ALTER TABLE ranking MODIFY group_id BIGINT NULL',
+    'DO 0');
+PREPARE ranking_nullable_stmt FROM @ranking_nullable_ddl;
+EXECUTE ranking_nullable_stmt;
+DEALLOCATE PREPARE ranking_nullable_stmt;
+
+-- 유니크 키를 만들기 전에 중복 행을 가장 작은 id로 합친다
+SET @ranking_merge_dml = IF(@ranking_ready,
+    'UPDATE ranking r
+         JOIN (SELECT MIN(id) AS keep_id, SUM(count) AS total
+               FROM ranking
+               GROUP BY user_id, COALESCE(group_id, 0), question_id
+               HAVING COUNT(*) > 1) d ON r.id = d.keep_id
+     SET r.count = d.total',
+    'DO 0');
+PREPARE ranking_merge_stmt FROM @ranking_merge_dml;
+EXECUTE ranking_merge_stmt;
+DEALLOCATE PREPARE ranking_merge_stmt;
+
+SET @ranking_dedup_dml = IF(@ranking_ready,
+    'DELETE r
+     FROM ranking r
+         JOIN (SELECT MIN(id) AS keep_id, user_id, COALESCE(group_id, 0) AS group_key, question_id
+               FROM ranking
+               GROUP BY user_id, COALESCE(group_id, 0), question_id
+               HAVING COUNT(*) > 1) d
+             ON r.user_id = d.user_id AND COALESCE(r.group_id, 0) = d.group_key AND r.question_id <=> d.question_id
+     WHERE r.id <> d.keep_id',
+    'DO 0');
+PREPARE ranking_dedup_stmt FROM @ranking_dedup_dml;
+EXECUTE ranking_dedup_stmt;
+DEALLOCATE PREPARE ranking_dedup_stmt;
+
+-- 일반 유니크 인덱스는 null을 서로 다른 값으로 보므로 group_id가 null인 공통 질문 행을 막지 못한다.
+-- COALESCE 함수 키(MySQL 8.0.13+)로 공통 질문 행까지 하나로 묶는다
+SET @ranking_key_ddl = IF(@ranking_ready AND
+    (SELECT COUNT(*) FROM information_schema.statistics
+     WHERE table_schema = DATABASE() AND table_name = 'ranking'
+       AND index_name = 'uk_ranking_user_group_key_question') = 0,
+    'CREATE UNIQUE INDEX uk_ranking_user_group_key_question ON ranking (user_id, (COALESCE(group_id, 0)), question_id)',
+    'DO 0');
+PREPARE ranking_key_stmt FROM @ranking_key_ddl;
+EXECUTE ranking_key_stmt;
+DEALLOCATE PREPARE ranking_key_stmt;
+
+-- 유니크 키가 같은 컬럼을 앞에서부터 덮으므로 예전 일반 인덱스는 지운다
+SET @ranking_index_ddl = IF(
+    (SELECT COUNT(*) FROM information_schema.statistics
+     WHERE table_schema = DATABASE() AND table_name = 'ranking'
+       AND index_name = 'idx_ranking_user_group_question') > 0,
+    'DROP INDEX idx_ranking_user_group_question ON ranking',
+    'DO 0');
+PREPARE ranking_index_stmt FROM @ranking_index_ddl;
+EXECUTE ranking_index_stmt;
+DEALLOCATE PREPARE ranking_index_stmt;
@@ -1,5 +1,6 @@
 package supernova.whokie.answer;
 
+import com.jayway.jsonpath.JsonPath;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,6 +18,7 @@ import supernova.whokie.answer.repository.AnswerRepository;
 import supernova.whokie.friend.Friend;
 import supernova.whokie.friend.infrastructure.repository.FriendRepository;
 import supernova.whokie.global.constants.Constants;
+import supernova.whokie.point_account.infrastructure.repository.PointAccountRepository;
 import supernova.whokie.question.Question;
 import supernova.whokie.question.QuestionStatus;
 import supernova.whokie.question.repository.QuestionRepository;
@@ -38,7 +40,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @TestPropertySource(properties = {
     "spring.profiles.active=default",
     "jwt.secret=abcd",
-    "spring.sql.init.mode=never"
+    "spring.sql.init.mode=never",
+    "statement-budget-strict=true"
 })
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
 class AnswerIntegrationTest {
@@ -53,6 +56,8 @@ class AnswerIntegrationTest {
     private QuestionRepository questionRepository;
     @Autowired
     private AnswerRepository answerRepository;
+    @Autowired
+    private PointAccountRepository pointAccountRepository;
 
 
     @BeforeEach
@@ -153,11 +158,36 @@ class AnswerIntegrationTest {
                 .requestAttr("userId", "1"))
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.message").value("답변 완료"));
-        Users userAfterAnswer = userRepository.findById(userId).orElseThrow();
-        int finalPoint = userAfterAnswer.getPoint();
+        int finalPoint = pointAccountRepository.findById(userId).orElseThrow().getBalance();
         assertThat(finalPoint).isEqualTo(initialPoint + Constants.ANSWER_POINT);
     }
 
+    @Test
+    @DisplayName("커서로 다음 답변 기록을 이어서 가져오는지 테스트")
+    void getAnswerRecordScrollTest() throws Exception {
+        String firstPage = mockMvc.perform(get("/api/answer/record/scroll")
+                .param("size", "3")
+                .requestAttr("userId", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(3))
+            .andExpect(jsonPath("$.content[0].answerId").value(1))
+            .andExpect(jsonPath("$.hasNext").value(true))
+            .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+            .andReturn().getResponse().getContentAsString();
+
+        String nextCursor = JsonPath.read(firstPage, "$.nextCursor");
+
+        mockMvc.perform(get("/api/answer/record/scroll")
+                .param("size", "3")
+                .param("cursor", nextCursor)
+                .requestAttr("userId", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(2))
+            .andExpect(jsonPath("$.content[0].answerId").value(4))
+            .andExpect(jsonPath("$.hasNext").value(false))
+            .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
     //@Test
     @DisplayName("전체 질문 기록 조회 테스트")
     void getAnswerRecordTest() throws Exception {
@@ -239,8 +269,8 @@ class AnswerIntegrationTest {
             });
 
         //유저 포인트 감소 확인
-        Users userAfterPurchase = userRepository.findById(userId).orElseThrow();
-        int finalPoint = userAfterPurchase.getPoint();
+        int finalPoint = pointAccountRepository.findById(userId).orElseThrow().getBalance();
         assertThat(finalPoint).isEqualTo(initialPoint - hintPurchasePoint);
+        assertThat(answerRepository.findById(answerId).orElseThrow().getHintCount()).isEqualTo(3);
     }
 }
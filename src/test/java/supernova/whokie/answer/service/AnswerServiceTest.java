@@ -10,22 +10,28 @@ import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.util.ReflectionTestUtils;
 import supernova.whokie.answer.Answer;
 import supernova.whokie.answer.controller.dto.AnswerResponse;
+import supernova.whokie.answer.repository.AnswerRecordProjection;
 import supernova.whokie.answer.repository.AnswerRepository;
 import supernova.whokie.answer.service.dto.AnswerCommand;
 import supernova.whokie.answer.service.dto.AnswerModel;
 import supernova.whokie.friend.Friend;
 import supernova.whokie.friend.infrastructure.repository.FriendRepository;
 import supernova.whokie.global.dto.PagingResponse;
+import supernova.whokie.global.exception.EntityNotFoundException;
+import supernova.whokie.global.exception.InvalidEntityException;
+import supernova.whokie.point_account.service.PointAccountService;
 import supernova.whokie.question.Question;
 import supernova.whokie.question.repository.QuestionRepository;
 import supernova.whokie.user.Users;
 import supernova.whokie.user.infrastructure.repository.UserRepository;
+import supernova.whokie.user.infrastructure.repository.UsersRepository;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -43,41 +49,65 @@ class AnswerServiceTest {
     @MockBean
     private UserRepository userRepository;
     @MockBean
+    private UsersRepository usersRepository;
+    @MockBean
+    private PointAccountService pointAccountService;
+    @MockBean
     private QuestionRepository questionRepository;
 
     @Autowired
     private AnswerService answerService;
 
-    //@Test
+    @Test
     @DisplayName("전체 질문 기록을 가져오는 메서드 테스트")
     void getAnswerRecordTest() {
-        Users dummyUser = mock(Users.class);
         // given
-        Answer dummyAnswer = Answer.builder()
-            .id(1L)
-            .question(mock(Question.class))
-            .picker(mock(Users.class))
-            .picked(mock(Users.class))
-            .hintCount(3)
-            .build();
-        ReflectionTestUtils.setField(dummyAnswer, "createdAt", LocalDateTime.of(2024, 9, 19, 0, 0));
+        AnswerRecordProjection dummyRecord = new AnswerRecordProjection(
+            1L, 1L, "question", 3, LocalDateTime.of(2024, 9, 19, 0, 0));
 
-        Page<Answer> answerPage = new PageImpl<>(List.of(dummyAnswer), PageRequest.of(0, 10), 1);
+        Page<AnswerRecordProjection> recordPage = new PageImpl<>(List.of(dummyRecord), PageRequest.of(0, 10), 1);
 
         // when
-        when(answerRepository.findAllByPicker(any(Pageable.class), eq(dummyUser))).thenReturn(
-            answerPage);
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(dummyUser));
+        when(answerRepository.findRecordsByPickerId(anyLong(), any(Pageable.class))).thenReturn(recordPage);
 
         Pageable pageable = PageRequest.of(0, 10, Sort.by("createdAt").ascending());
 
-        PagingResponse<AnswerResponse.Record> response = answerService.getAnswerRecord(pageable,
-            dummyUser.getId());
+        PagingResponse<AnswerResponse.Record> response = answerService.getAnswerRecord(pageable, 1L);
 
         // then
         assertEquals(1, response.content().size());
-        assertEquals(dummyAnswer.getId(), response.content().get(0).answerId());
+        assertEquals(dummyRecord.answerId(), response.content().get(0).answerId());
         assertEquals(3, response.content().get(0).hintCount());
+        verify(usersRepository, never()).existsById(anyLong());
+    }
+
+    @Test
+    @DisplayName("질문 기록이 없고 유저도 없으면 404 예외를 던진다")
+    void getAnswerRecordUserNotFoundTest() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("createdAt").ascending());
+        when(answerRepository.findRecordsByPickerId(anyLong(), any(Pageable.class))).thenReturn(Page.empty(pageable));
+        when(usersRepository.existsById(anyLong())).thenReturn(false);
+
+        // when & then
+        assertThrows(EntityNotFoundException.class, () -> answerService.getAnswerRecord(pageable, 1L));
+    }
+
+    @Test
+    @DisplayName("같은 힌트를 다른 요청이 먼저 구매했으면 포인트를 차감하지 않고 예외를 던진다")
+    void purchaseHintConflictTest() {
+        // given
+        Users picked = Users.builder().id(1L).build();
+        Answer answer = Answer.builder().id(1L).picked(picked).hintCount(1).build();
+
+        when(usersRepository.findById(1L)).thenReturn(Optional.of(picked));
+        when(answerRepository.findById(1L)).thenReturn(Optional.of(answer));
+        when(answerRepository.increaseHintCount(1L, 1)).thenReturn(0);
+
+        // when & then
+        assertThrows(InvalidEntityException.class,
+            () -> answerService.purchaseHint(1L, new AnswerCommand.Purchase(1L)));
+        verify(pointAccountService, never()).debit(anyLong(), anyInt());
     }
 
     //@Test
@@ -141,7 +171,10 @@ class AnswerServiceTest {
         );
 
         //when
-        when(friendRepository.findAllByHostUser(any(Users.class))).thenReturn(dummyFriends);
+        when(friendRepository.findFriendUserIdsByHostUserId(dummyUser.getId()))
+            .thenReturn(dummyFriends.stream().map(Friend::getFriendUserId).toList());
+        when(userRepository.findByIdIn(anyList()))
+            .thenReturn(dummyFriends.stream().map(Friend::getFriendUser).toList());
         when(userRepository.findById(anyLong())).thenReturn(Optional.of(dummyUser));
 
         AnswerModel.Refresh refreshResponse = answerService.refreshAnswerList(dummyUser.getId());
@@ -149,6 +182,6 @@ class AnswerServiceTest {
         //then
         assertEquals(5, refreshResponse.users().size());
 
-        verify(friendRepository, times(1)).findAllByHostUser(any(Users.class));
+        verify(friendRepository, times(1)).findFriendUserIdsByHostUserId(dummyUser.getId());
     }
 }
\ No newline at end of file
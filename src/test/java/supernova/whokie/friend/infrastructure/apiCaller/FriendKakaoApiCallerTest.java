@@ -0,0 +1,81 @@
+package supernova.whokie.friend.infrastructure.apiCaller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import supernova.whokie.friend.infrastructure.apiCaller.dto.KakaoDto;
+
+class FriendKakaoApiCallerTest {
+
+    private static final String TOKEN = "token";
+    private static final int PAGE_SIZE = 2;
+
+    private FriendKakaoApiCaller apiCaller;
+
+    @BeforeEach
+    void setUp() {
+        apiCaller = spy(new FriendKakaoApiCaller(null, null, null, Runnable::run, PAGE_SIZE));
+    }
+
+    @Test
+    @DisplayName("total_count 만큼 남은 offset을 페이지 크기로 나눠 모두 요청하고 순서대로 합친다")
+    void getAllKakaoFriendsFanOutTest() {
+        // given
+        willReturn(page("next", 5, 1, 2)).given(apiCaller).getKakaoFriends(TOKEN, 0);
+        willReturn(page("next", 5, 3, 4)).given(apiCaller).getKakaoFriends(TOKEN, 2);
+        willReturn(page(null, 5, 5)).given(apiCaller).getKakaoFriends(TOKEN, 4);
+
+        // when
+        List<KakaoDto.Profile> actual = apiCaller.getAllKakaoFriends(TOKEN).join();
+
+        // then
+        assertThat(actual).extracting(KakaoDto.Profile::id).containsExactly(1L, 2L, 3L, 4L, 5L);
+    }
+
+    @Test
+    @DisplayName("total_count가 없거나 다음 페이지가 없으면 첫 페이지만 돌려준다")
+    void getAllKakaoFriendsSinglePageTest() {
+        // given
+        willReturn(page("next", null, 1, 2)).given(apiCaller).getKakaoFriends(TOKEN, 0);
+
+        // when
+        List<KakaoDto.Profile> actual = apiCaller.getAllKakaoFriends(TOKEN).join();
+
+        // then
+        assertThat(actual).extracting(KakaoDto.Profile::id).containsExactly(1L, 2L);
+        then(apiCaller).should(times(1)).getKakaoFriends(anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("한 페이지라도 실패하면 전체 조회가 실패한다")
+    void getAllKakaoFriendsPageFailureTest() {
+        // given
+        willReturn(page("next", 4, 1, 2)).given(apiCaller).getKakaoFriends(TOKEN, 0);
+        willThrow(new IllegalStateException("kakao down")).given(apiCaller).getKakaoFriends(TOKEN, 2);
+
+        // when & then
+        assertThatThrownBy(() -> apiCaller.getAllKakaoFriends(TOKEN).join())
+            .isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    private static KakaoDto.Friends page(String afterUrl, Integer totalCount, long... ids) {
+        List<KakaoDto.Profile> profiles = LongStream.of(ids)
+            .mapToObj(id -> new KakaoDto.Profile(id, "uuid" + id, false, "nickname" + id, "image" + id))
+            .toList();
+        return new KakaoDto.Friends(afterUrl, totalCount, profiles);
+    }
+}
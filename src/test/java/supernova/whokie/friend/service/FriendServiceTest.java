@@ -1,7 +1,5 @@
 package supernova.whokie.friend.service;
 
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -9,9 +7,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.TestPropertySource;
-import org.springframework.transaction.annotation.Transactional;
 import supernova.whokie.friend.Friend;
 import supernova.whokie.friend.infrastructure.apiCaller.FriendKakaoApiCaller;
 import supernova.whokie.friend.infrastructure.apiCaller.dto.KakaoDto;
@@ -19,18 +17,22 @@ import supernova.whokie.friend.infrastructure.repository.FriendRepository;
 import supernova.whokie.friend.service.dto.FriendCommand;
 import supernova.whokie.friend.service.dto.FriendModel;
 import supernova.whokie.global.auth.JwtProvider;
+import supernova.whokie.global.util.LongArrayList;
+import supernova.whokie.global.util.LongHashSet;
 import supernova.whokie.user.Gender;
 import supernova.whokie.user.Role;
 import supernova.whokie.user.Users;
 import supernova.whokie.user.infrastructure.repository.UserRepository;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
 
 @SpringBootTest
 @ExtendWith(MockitoExtension.class)
@@ -43,7 +45,7 @@ class FriendServiceTest {
 
     @Autowired
     private FriendService friendService;
-    @Autowired
+    @SpyBean
     private UserRepository userRepository;
     @Autowired
     private FriendRepository friendRepository;
@@ -51,9 +53,6 @@ class FriendServiceTest {
     private FriendKakaoApiCaller apiCaller;
     @MockBean
     private JwtProvider jwtProvider;
-    @PersistenceContext
-    EntityManager entityManager;
-
 
     @Test
     @DisplayName("getKakaoFriends 테스트")
@@ -64,9 +63,8 @@ class FriendServiceTest {
         KakaoDto.Profile profile2 = new KakaoDto.Profile(3L, "uuid2", false, "nickname2", "image2");
         KakaoDto.Profile profile3 = new KakaoDto.Profile(4L, "uuid3", false, "nickname3", "image3");
         List<KakaoDto.Profile> profiles = List.of(profile1, profile2, profile3);
-        KakaoDto.Friends kakaodto = new KakaoDto.Friends(null, profiles);
-        given(apiCaller.getKakaoFriends(any()))
-            .willReturn(kakaodto);
+        given(apiCaller.getAllKakaoFriends(any()))
+            .willReturn(CompletableFuture.completedFuture(profiles));
 
         Users host = Users.builder().id(userId).name("name").email("email1").point(0).age(1)
             .kakaoId(1L).gender(Gender.F).imageUrl("sfd").role(Role.USER).build();
@@ -82,7 +80,7 @@ class FriendServiceTest {
         friendRepository.save(friend);
 
         // when
-        List<FriendModel.Info> actual = friendService.getKakaoFriends(userId);
+        List<FriendModel.Info> actual = friendService.getKakaoFriends(userId).join();
 
         assertThat(actual).hasSize(3);
         assertThat(actual.get(0).isFriend()).isFalse();
@@ -90,6 +88,67 @@ class FriendServiceTest {
         assertThat(actual.get(2).isFriend()).isTrue();
     }
 
+    @Test
+    @DisplayName("카카오 친구 목록이 지난 조회와 같으면 가입 유저를 다시 조회하지 않는다")
+    void getKakaoFriendsUnchangedTest() {
+        // given
+        Long userId = 1L;
+        KakaoDto.Profile profile1 = new KakaoDto.Profile(2L, "uuid1", false, "nickname1", "image1");
+        KakaoDto.Profile profile2 = new KakaoDto.Profile(3L, "uuid2", false, "nickname2", "image2");
+
+        Users host = Users.builder().id(userId).name("name").email("email1").point(0).age(1)
+            .kakaoId(1L).gender(Gender.F).imageUrl("sfd").role(Role.USER).build();
+        Users user1 = Users.builder().id(2L).name("name").email("email2").point(0).age(1)
+            .kakaoId(profile1.id()).gender(Gender.F).imageUrl("sfd").role(Role.USER).build();
+        userRepository.saveAll(List.of(host, user1));
+
+        given(apiCaller.getAllKakaoFriends(any()))
+            .willReturn(CompletableFuture.completedFuture(List.of(profile1, profile2)));
+        friendService.getKakaoFriends(userId).join();
+
+        given(apiCaller.getAllKakaoFriends(any()))
+            .willReturn(CompletableFuture.completedFuture(List.of(profile2, profile1)));
+
+        // when
+        List<FriendModel.Info> actual = friendService.getKakaoFriends(userId).join();
+
+        // then
+        assertThat(actual).extracting(FriendModel.Info::friendId)
+            .containsExactly(user1.getId());
+        then(userRepository).should(times(1)).findByKakaoIdIn(anyList());
+    }
+
+    @Test
+    @DisplayName("카카오 친구 목록이 바뀌면 가입 유저를 다시 조회한다")
+    void getKakaoFriendsChangedTest() {
+        // given
+        Long userId = 1L;
+        KakaoDto.Profile profile1 = new KakaoDto.Profile(2L, "uuid1", false, "nickname1", "image1");
+        KakaoDto.Profile profile2 = new KakaoDto.Profile(3L, "uuid2", false, "nickname2", "image2");
+
+        Users host = Users.builder().id(userId).name("name").email("email1").point(0).age(1)
+            .kakaoId(1L).gender(Gender.F).imageUrl("sfd").role(Role.USER).build();
+        Users user1 = Users.builder().id(2L).name("name").email("email2").point(0).age(1)
+            .kakaoId(profile1.id()).gender(Gender.F).imageUrl("sfd").role(Role.USER).build();
+        Users user2 = Users.builder().id(3L).name("name").email("email3").point(0).age(1)
+            .kakaoId(profile2.id()).gender(Gender.F).imageUrl("sfd").role(Role.USER).build();
+        userRepository.saveAll(List.of(host, user1, user2));
+
+        given(apiCaller.getAllKakaoFriends(any()))
+            .willReturn(CompletableFuture.completedFuture(List.of(profile1)));
+        friendService.getKakaoFriends(userId).join();
+
+        given(apiCaller.getAllKakaoFriends(any()))
+            .willReturn(CompletableFuture.completedFuture(List.of(profile2, profile1)));
+
+        // when
+        List<FriendModel.Info> actual = friendService.getKakaoFriends(userId).join();
+
+        // then
+        assertThat(actual).extracting(FriendModel.Info::friendId)
+            .containsExactlyInAnyOrder(user1.getId(), user2.getId());
+    }
+
     @Test
     @DisplayName("새로운 친구 리스트 저장")
     void saveFriendsTest() {
@@ -110,7 +169,7 @@ class FriendServiceTest {
             .build();
 
         // when
-        friendService.saveFriends(hostId, command, new ArrayList<>());
+        friendService.syncFriends(hostId, command);
         List<Friend> actual = friendRepository.findByHostUserIdFetchJoin(hostId);
 
         // then
@@ -118,7 +177,33 @@ class FriendServiceTest {
     }
 
     @Test
-    @Transactional
+    @DisplayName("같은 친구 목록으로 다시 동기화해도 결과가 같다")
+    void syncFriendsIdempotentTest() {
+        // given
+        Long hostId = 1L;
+        Users host = Users.builder().id(hostId).name("name").email("email1").point(0).age(1)
+            .kakaoId(1L).gender(Gender.F).imageUrl("sfd").role(Role.USER).build();
+        Users user1 = Users.builder().id(2L).name("name").email("email2").point(0).age(1)
+            .kakaoId(2L).gender(Gender.F).imageUrl("sfd").role(Role.USER).build();
+        Users user2 = Users.builder().id(3L).name("name").email("email3").point(0).age(1)
+            .kakaoId(3L).gender(Gender.F).imageUrl("sfd").role(Role.USER).build();
+        userRepository.saveAll(List.of(host, user1, user2));
+
+        FriendCommand.Update command = FriendCommand.Update.builder()
+            .friendIds(List.of(user1.getId(), user2.getId(), user2.getId(), 999L))
+            .build();
+
+        // when
+        friendService.syncFriends(hostId, command);
+        friendService.syncFriends(hostId, command);
+        List<Friend> actual = friendRepository.findByHostUserIdFetchJoin(hostId);
+
+        // then
+        assertThat(actual).extracting(Friend::getFriendUserId)
+            .containsExactlyInAnyOrder(user1.getId(), user2.getId());
+    }
+
+    @Test
     @DisplayName("누락된 Friend 삭제")
     void deleteFriendsTest() {
         Long hostId = 1L;
@@ -140,11 +225,8 @@ class FriendServiceTest {
             .friendIds(List.of(user1.getId(), user2.getId()))
             .build();
 
-        entityManager.flush();
-        entityManager.clear();
-
         // when
-        friendService.deleteFriends(command, List.of(friend1, friend2, friend3));
+        friendService.syncFriends(hostId, command);
         List<Friend> actual = friendRepository.findByHostUserIdFetchJoin(hostId);
 
         // then
@@ -159,20 +241,14 @@ class FriendServiceTest {
         Users user2 = Users.builder().id(3L).name("user2").build();
         Users user3 = Users.builder().id(4L).name("user3").build();
         Users user4 = Users.builder().id(5L).name("user4").build();
-        List<Users> users = List.of(user1, user2, user3);
-        List<Long> userIds = users.stream().map(Users::getId).toList();
-
-        Friend friend1 = Friend.builder().friendUser(user3).build();
-        Friend friend2 = Friend.builder().friendUser(user4).build();
-        List<Friend> friends = List.of(friend1, friend2);
+        LongHashSet userIds = LongHashSet.of(user1.getId(), user2.getId(), user3.getId());
+        LongHashSet existingIds = LongHashSet.of(user3.getId(), user4.getId());
 
         // when
-        List<Long> actual = friendService.filteringNewFriendUserIds(userIds, friends);
+        LongArrayList actual = friendService.filteringNewFriendUserIds(userIds, existingIds);
 
         // then
-        assertThat(actual).hasSize(2);
-        assertThat(actual.get(0)).isEqualTo(user1.getId());
-        assertThat(actual.get(1)).isEqualTo(user2.getId());
+        assertThat(actual.toArray()).containsExactlyInAnyOrder(user1.getId(), user2.getId());
     }
 
     @Test
@@ -183,20 +259,14 @@ class FriendServiceTest {
         Users user2 = Users.builder().id(3L).name("user2").build();
         Users user3 = Users.builder().id(4L).name("user3").build();
         Users user4 = Users.builder().id(5L).name("user4").build();
-        List<Users> users = List.of(user1, user2, user3);
-        List<Long> friendUserIds = users.stream().map(Users::getId).toList();
-
-        Friend friend1 = Friend.builder().friendUser(user3).build();
-        Friend friend2 = Friend.builder().friendUser(user4).build();
-        List<Friend> existingFriends = List.of(friend1, friend2);
+        LongHashSet friendUserIds = LongHashSet.of(user1.getId(), user2.getId(), user3.getId());
+        LongHashSet existingIds = LongHashSet.of(user3.getId(), user4.getId());
 
         // when
-        List<Long> actual = friendService.filteringDeleteFriendUserIds(friendUserIds,
-            existingFriends);
+        LongArrayList actual = friendService.filteringDeleteFriendUserIds(friendUserIds, existingIds);
 
         // then
-        assertThat(actual).hasSize(1);
-        assertThat(actual.getFirst()).isEqualTo(friend2.getId());
+        assertThat(actual.toArray()).containsExactly(user4.getId());
     }
 
     @Test
@@ -212,10 +282,10 @@ class FriendServiceTest {
         List<Friend> existingFriends = List.of(friend1, friend2);
 
         // when
-        Set<Long> actual = friendService.extractFriendUserIdAsSet(existingFriends);
+        LongHashSet actual = friendService.extractFriendUserIdAsSet(existingFriends);
 
         // then
-        assertThat(actual).hasSize(2);
+        assertThat(actual.size()).isEqualTo(2);
         assertThat(actual.contains(user1.getId())).isTrue();
         assertThat(actual.contains(user2.getId())).isTrue();
         assertThat(actual.contains(user3.getId())).isFalse();
@@ -0,0 +1,46 @@
+package supernova.whokie.friend.service;
+
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import supernova.whokie.friend.service.dto.FriendCommand;
+
+@ExtendWith(MockitoExtension.class)
+class FriendSyncCoordinatorTest {
+
+    @Mock
+    private FriendService friendService;
+
+    @Test
+    @DisplayName("작업 제출이 거절되면 대기 항목을 지워 같은 host의 다음 요청이 다시 실행된다")
+    void submitRejectedTest() {
+        // given
+        AtomicInteger submissions = new AtomicInteger();
+        Executor executor = task -> {
+            if (submissions.incrementAndGet() == 1) {
+                throw new RejectedExecutionException("saturated");
+            }
+            task.run();
+        };
+        FriendSyncCoordinator coordinator = new FriendSyncCoordinator(friendService, executor);
+        FriendCommand.Update first = FriendCommand.Update.builder().friendIds(List.of(2L)).build();
+        FriendCommand.Update second = FriendCommand.Update.builder().friendIds(List.of(3L)).build();
+
+        // when
+        coordinator.submit(1L, first);
+        coordinator.submit(1L, second);
+
+        // then
+        then(friendService).should(times(1)).syncFriends(1L, second);
+        then(friendService).should(times(0)).syncFriends(1L, first);
+    }
+}
@@ -0,0 +1,96 @@
+package supernova.whokie.global.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class InstrumentedTaskExecutorTest {
+
+    private InstrumentedTaskExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new InstrumentedTaskExecutor("test", 1, 1, 1);
+        executor.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 호출한 스레드에서 작업을 실행한다")
+    void callerRunsWhenQueueIsFullTest() throws InterruptedException {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(2);
+        executor.execute(() -> {
+            await(release);
+            done.countDown();
+        });
+        executor.execute(done::countDown);
+
+        // when
+        AtomicReference<Thread> runner = new AtomicReference<>();
+        executor.execute(() -> runner.set(Thread.currentThread()));
+        release.countDown();
+
+        // then
+        assertThat(runner.get()).isEqualTo(Thread.currentThread());
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        ExecutorStats stats = executor.stats();
+        assertThat(stats.callerRuns()).isEqualTo(1);
+        assertThat(stats.queueCapacity()).isEqualTo(1);
+        assertThat(stats.name()).isEqualTo("test");
+    }
+
+    @Test
+    @DisplayName("종료된 뒤에 들어온 작업도 버리지 않고 호출한 스레드에서 실행한다")
+    void runsOnCallerAfterShutdownTest() {
+        // given
+        executor.shutdown();
+        AtomicReference<Thread> runner = new AtomicReference<>();
+
+        // when
+        executor.execute(() -> runner.set(Thread.currentThread()));
+
+        // then
+        assertThat(runner.get()).isEqualTo(Thread.currentThread());
+    }
+
+    @Test
+    @DisplayName("virtual thread 모드에서는 작업이 virtual thread에서 실행된다")
+    void virtualThreadTest() throws InterruptedException {
+        // given
+        InstrumentedTaskExecutor virtualExecutor = new InstrumentedTaskExecutor("virtual", 1, 1, 1, true);
+        virtualExecutor.initialize();
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicReference<Thread> runner = new AtomicReference<>();
+
+        // when
+        virtualExecutor.execute(() -> {
+            runner.set(Thread.currentThread());
+            done.countDown();
+        });
+
+        // then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(runner.get().isVirtual()).isTrue();
+        virtualExecutor.shutdown();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
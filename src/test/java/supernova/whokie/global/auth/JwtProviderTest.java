@@ -0,0 +1,57 @@
+package supernova.whokie.global.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.jsonwebtoken.JwtException;
+import java.util.Base64;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import supernova.whokie.user.Role;
+
+class JwtProviderTest {
+
+    private static final String SECRET = "c3VwZXJub3ZhLXdob2tpZS1iZW5jaG1hcmstc2VjcmV0LWtleQ==";
+
+    private JwtProvider jwtProvider;
+
+    @BeforeEach
+    void setUp() {
+        jwtProvider = new JwtProvider(SECRET, 100);
+    }
+
+    @Test
+    @DisplayName("한 번 검증한 토큰은 캐시에서 같은 값을 돌려준다")
+    void verifyCacheTest() {
+        // given
+        String token = jwtProvider.createToken(1L, Role.USER);
+
+        // when
+        TokenClaims first = jwtProvider.verify(token);
+        TokenClaims second = jwtProvider.verify(token);
+
+        // then
+        assertThat(first.userId()).isEqualTo("1");
+        assertThat(first.role()).isEqualTo(Role.USER.name());
+        assertThat(second).isSameAs(first);
+        assertThat(jwtProvider.stats().get("verifiedTokens").hits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시된 서명에 다른 payload를 붙인 토큰은 거부한다")
+    void verifyTamperedTokenTest() {
+        // given
+        String token = jwtProvider.createToken(1L, Role.USER);
+        jwtProvider.verify(token);
+
+        String[] parts = token.split("\\.");
+        String forgedPayload = Base64.getUrlEncoder().withoutPadding()
+            .encodeToString("{\"sub\":\"2\",\"role\":\"ADMIN\"}".getBytes());
+        String forged = parts[0] + "." + forgedPayload + "." + parts[2];
+
+        // when & then
+        assertThatThrownBy(() -> jwtProvider.verify(forged))
+            .isInstanceOf(JwtException.class);
+    }
+}
@@ -0,0 +1,177 @@
+package supernova.whokie.global.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LruCacheTest {
+
+    @Test
+    @DisplayName("캐시 히트 시 loader를 다시 호출하지 않고 히트/미스를 기록한다")
+    void getTest() {
+        // given
+        LruCache<Long, String> cache = LruCache.ofSize(10);
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        cache.get(1L, key -> "v" + loads.incrementAndGet());
+        String actual = cache.get(1L, key -> "v" + loads.incrementAndGet());
+
+        // then
+        assertThat(actual).isEqualTo("v1");
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.stats().hits()).isEqualTo(1);
+        assertThat(cache.stats().misses()).isEqualTo(1);
+        assertThat(cache.stats().hitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("가중치 합이 상한을 넘으면 가장 오래 사용되지 않은 항목부터 제거한다")
+    void evictionTest() {
+        // given
+        LruCache<Long, long[]> cache = new LruCache<>(5, ids -> ids.length);
+        cache.put(1L, new long[2]);
+        cache.put(2L, new long[2]);
+        cache.getIfPresent(1L);
+
+        // when
+        cache.put(3L, new long[2]);
+
+        // then
+        assertThat(cache.getIfPresent(2L)).isNull();
+        assertThat(cache.getIfPresent(1L)).isNotNull();
+        assertThat(cache.getIfPresent(3L)).isNotNull();
+        assertThat(cache.stats().weight()).isEqualTo(4);
+        assertThat(cache.stats().evictions()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("세그먼트로 나뉜 큰 캐시도 전체 가중치 합은 상한을 넘지 않는다")
+    void segmentedEvictionTest() {
+        // given
+        LruCache<Long, Integer> cache = LruCache.ofSize(100_000);
+
+        // when
+        for (long key = 0; key < 300_000; key++) {
+            cache.put(key, 1);
+        }
+
+        // then
+        assertThat(cache.stats().weight()).isLessThanOrEqualTo(100_000);
+        assertThat(cache.stats().evictions()).isEqualTo(300_000 - cache.stats().size());
+    }
+
+    @Test
+    @DisplayName("상한보다 무거운 값을 넣으면 캐싱하지 않고 이전 값도 지운다")
+    void putOversizeTest() {
+        // given
+        LruCache<Long, long[]> cache = new LruCache<>(5, ids -> ids.length);
+        cache.put(1L, new long[2]);
+
+        // when
+        cache.put(1L, new long[6]);
+
+        // then
+        assertThat(cache.getIfPresent(1L)).isNull();
+        assertThat(cache.stats().size()).isZero();
+        assertThat(cache.stats().weight()).isZero();
+    }
+
+    @Test
+    @DisplayName("무효화된 키는 다시 로드된다")
+    void invalidateTest() {
+        // given
+        LruCache<Long, String> cache = LruCache.ofSize(10);
+        cache.put(1L, "old");
+
+        // when
+        cache.invalidate(1L);
+        String actual = cache.get(1L, key -> "new");
+
+        // then
+        assertThat(actual).isEqualTo("new");
+        assertThat(cache.stats().size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("ttl이 지난 항목은 미스로 처리하고 다시 로드한다")
+    void expireTest() {
+        // given
+        AtomicLong now = new AtomicLong();
+        LruCache<Long, String> cache = new LruCache<>(10, value -> 1, Duration.ofSeconds(5), now::get);
+        cache.put(1L, "old");
+        now.addAndGet(Duration.ofSeconds(4).toNanos());
+        String beforeExpire = cache.getIfPresent(1L);
+
+        // when
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        String actual = cache.get(1L, key -> "new");
+
+        // then
+        assertThat(beforeExpire).isEqualTo("old");
+        assertThat(actual).isEqualTo("new");
+        assertThat(cache.stats().expirations()).isEqualTo(1);
+        assertThat(cache.stats().size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("update는 캐시에 있는 항목만 갱신한다")
+    void updateTest() {
+        // given
+        LruCache<Long, Integer> cache = LruCache.ofSize(10);
+        cache.put(1L, 10);
+
+        // when
+        cache.update(1L, value -> value + 5);
+        cache.update(2L, value -> value + 5);
+
+        // then
+        assertThat(cache.getIfPresent(1L)).isEqualTo(15);
+        assertThat(cache.getIfPresent(2L)).isNull();
+    }
+
+    @Test
+    @DisplayName("replace는 현재 값이 기대한 값일 때만 교체한다")
+    void replaceTest() {
+        // given
+        LruCache<Long, String> cache = LruCache.ofSize(10);
+        String stale = "stale";
+        cache.put(1L, stale);
+        cache.put(2L, "other");
+
+        // when
+        boolean replaced = cache.replace(1L, stale, "fresh");
+        boolean ignored = cache.replace(2L, stale, "fresh");
+
+        // then
+        assertThat(replaced).isTrue();
+        assertThat(ignored).isFalse();
+        assertThat(cache.getIfPresent(1L)).isEqualTo("fresh");
+        assertThat(cache.getIfPresent(2L)).isEqualTo("other");
+    }
+
+    @Test
+    @DisplayName("snapshot은 만료되지 않고 조건에 맞는 항목만 돌려준다")
+    void snapshotTest() {
+        // given
+        AtomicLong now = new AtomicLong();
+        LruCache<Long, Integer> cache = new LruCache<>(10, value -> 1, Duration.ofSeconds(5), now::get);
+        cache.put(1L, 1);
+        now.addAndGet(Duration.ofSeconds(3).toNanos());
+        cache.put(2L, 2);
+        cache.put(3L, 30);
+
+        // when
+        now.addAndGet(Duration.ofSeconds(3).toNanos());
+        Map<Long, Integer> actual = cache.snapshot(value -> value < 10);
+
+        // then
+        assertThat(actual).containsExactly(Map.entry(2L, 2));
+        assertThat(cache.stats().hits()).isZero();
+    }
+}
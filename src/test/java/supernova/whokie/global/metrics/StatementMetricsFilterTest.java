@@ -0,0 +1,115 @@
+package supernova.whokie.global.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import supernova.whokie.global.annotation.StatementBudget;
+
+class StatementMetricsFilterTest {
+
+    private StatementCounter statementCounter;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        statementCounter = new StatementCounter();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("요청 동안 실행된 SQL 수를 엔드포인트별로 기록한다")
+    void recordStatementsPerEndpointTest() throws Exception {
+        // given
+        StatementMetricsFilter filter = new StatementMetricsFilter(statementCounter, meterRegistry, 10, true);
+        MockHttpServletRequest request = request("unbudgeted");
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), executing(3));
+
+        // then
+        DistributionSummary summary = meterRegistry.get("whokie.http.statements")
+            .tag("method", "GET")
+            .tag("uri", "/api/sample")
+            .summary();
+        assertThat(summary.count()).isEqualTo(1);
+        assertThat(summary.totalAmount()).isEqualTo(3);
+        assertThat(statementCounter.current()).isZero();
+    }
+
+    @Test
+    @DisplayName("strict 모드에서 엔드포인트 예산을 넘으면 예외를 던진다")
+    void failWhenBudgetExceededInStrictModeTest() throws Exception {
+        // given
+        StatementMetricsFilter filter = new StatementMetricsFilter(statementCounter, meterRegistry, 10, true);
+        MockHttpServletRequest request = request("records");
+
+        // when & then
+        assertThatThrownBy(() -> filter.doFilter(request, new MockHttpServletResponse(), executing(3)))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("GET /api/sample");
+    }
+
+    @Test
+    @DisplayName("strict 모드가 아니면 예산 초과를 기록만 한다")
+    void countWhenBudgetExceededTest() throws Exception {
+        // given
+        StatementMetricsFilter filter = new StatementMetricsFilter(statementCounter, meterRegistry, 10, false);
+        MockHttpServletRequest request = request("records");
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), executing(3));
+
+        // then
+        assertThat(meterRegistry.get("whokie.http.statements.over.budget").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("예산을 지정하지 않은 엔드포인트는 기본 예산을 따른다")
+    void applyDefaultBudgetTest() throws Exception {
+        // given
+        StatementMetricsFilter filter = new StatementMetricsFilter(statementCounter, meterRegistry, 3, true);
+        MockHttpServletRequest request = request("unbudgeted");
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), executing(3));
+
+        // then
+        assertThat(meterRegistry.find("whokie.http.statements.over.budget").counter()).isNull();
+    }
+
+    private MockHttpServletRequest request(String handlerMethod) throws NoSuchMethodException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/sample");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/sample");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+            new HandlerMethod(new SampleController(), SampleController.class.getMethod(handlerMethod)));
+        return request;
+    }
+
+    private FilterChain executing(int statements) {
+        return (request, response) -> {
+            for (int i = 0; i < statements; i++) {
+                statementCounter.inspect("select " + i);
+            }
+        };
+    }
+
+    static class SampleController {
+
+        @StatementBudget(2)
+        public void records() {
+        }
+
+        public void unbudgeted() {
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package supernova.whokie.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LongHashSetTest {
+
+    @Test
+    @DisplayName("중복은 한 번만 담고 0과 음수도 구분한다")
+    void addTest() {
+        // given
+        LongHashSet set = new LongHashSet();
+
+        // when
+        boolean first = set.add(0L);
+        boolean duplicate = set.add(0L);
+        set.add(-1L);
+        set.add(Long.MIN_VALUE);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(duplicate).isFalse();
+        assertThat(set.size()).isEqualTo(3);
+        assertThat(set.contains(0L)).isTrue();
+        assertThat(set.contains(-1L)).isTrue();
+        assertThat(set.contains(1L)).isFalse();
+        assertThat(set.toArray()).containsExactlyInAnyOrder(0L, -1L, Long.MIN_VALUE);
+    }
+
+    @Test
+    @DisplayName("테이블이 커져도 모든 값을 찾을 수 있다")
+    void rehashTest() {
+        // given
+        LongHashSet set = new LongHashSet();
+
+        // when
+        for (long i = 1; i <= 10_000; i++) {
+            set.add(i * 1024);
+        }
+
+        // then
+        assertThat(set.size()).isEqualTo(10_000);
+        for (long i = 1; i <= 10_000; i++) {
+            assertThat(set.contains(i * 1024)).isTrue();
+        }
+        assertThat(set.contains(1023L)).isFalse();
+    }
+}
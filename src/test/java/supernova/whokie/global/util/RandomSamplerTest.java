@@ -0,0 +1,40 @@
+package supernova.whokie.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RandomSamplerTest {
+
+    @Test
+    @DisplayName("제외할 id 는 뽑지 않고, 남은 후보가 충분하면 limit 개를 채운다")
+    void sampleExcludingTest() {
+        // given
+        long[] ids = {1L, 2L, 3L, 4L, 5L, 6L};
+
+        for (int i = 0; i < 1_000; i++) {
+            // when
+            List<Long> sampled = RandomSampler.sampleExcluding(ids, 5, 1L);
+
+            // then
+            assertThat(sampled).hasSize(5)
+                .doesNotHaveDuplicates()
+                .doesNotContain(1L);
+        }
+    }
+
+    @Test
+    @DisplayName("후보가 limit 보다 적으면 제외할 id 를 뺀 전부를 돌려준다")
+    void sampleExcludingFromSmallGroupTest() {
+        // given
+        long[] ids = {1L, 2L, 3L};
+
+        // when
+        List<Long> sampled = RandomSampler.sampleExcluding(ids, 5, 2L);
+
+        // then
+        assertThat(sampled).containsExactlyInAnyOrder(1L, 3L);
+    }
+}
@@ -1,12 +1,12 @@
 package supernova.whokie.group_member.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 
-import java.lang.reflect.Field;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -18,11 +18,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import supernova.whokie.global.entity.BaseTimeEntity;
+import org.springframework.context.ApplicationEventPublisher;
+import supernova.whokie.global.exception.EntityNotFoundException;
 import supernova.whokie.group.Groups;
 import supernova.whokie.group_member.GroupMember;
 import supernova.whokie.group_member.GroupRole;
 import supernova.whokie.group_member.GroupStatus;
+import supernova.whokie.group_member.event.GroupMemberEventDto;
+import supernova.whokie.group_member.infrastructure.repository.GroupMemberProjection;
 import supernova.whokie.group_member.infrastructure.repository.GroupMemberRepository;
 import supernova.whokie.group_member.service.dto.GroupMemberCommand;
 import supernova.whokie.group_member.service.dto.GroupMemberModel;
@@ -39,6 +42,9 @@ public class GroupMemberServiceTest {
     @Mock
     private GroupMemberRepository groupMemberRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private GroupMember leader;
     private GroupMember member;
     private Users user1;
@@ -135,22 +141,21 @@ public class GroupMemberServiceTest {
 
         // then
         verify(groupMemberRepository).deleteByUserIdAndGroupId(member.getId(), command.groupId());
+        verify(eventPublisher).publishEvent(GroupMemberEventDto.Changed.toDto(command.groupId()));
     }
 
     @Test
     @DisplayName("그룹 내 멤버 조회")
-    void getGroupMembers() throws Exception {
+    void getGroupMembers() {
         // given
-        given(groupMemberRepository.findByUserIdAndGroupId(userId, groupId))
-            .willReturn(Optional.of(member));
-
-        given(groupMemberRepository.findAllByGroupId(groupId))
-            .willReturn(List.of(leader, member));
-
-        Field createdAtField = BaseTimeEntity.class.getDeclaredField("createdAt");
-        createdAtField.setAccessible(true);
-        createdAtField.set(leader, LocalDateTime.now());
-        createdAtField.set(member, LocalDateTime.now());
+        LocalDateTime joinedAt = LocalDateTime.now();
+        given(groupMemberRepository.findMembersVisibleTo(userId, groupId))
+            .willReturn(List.of(
+                new GroupMemberProjection(1L, user1.getId(), user1.getName(), user1.getImageUrl(),
+                    GroupRole.LEADER, GroupStatus.APPROVED, joinedAt),
+                new GroupMemberProjection(2L, user2.getId(), user2.getName(), user2.getImageUrl(),
+                    GroupRole.MEMBER, GroupStatus.APPROVED, joinedAt)
+            ));
 
         // when
         GroupMemberModel.Members members = groupMemberService.getGroupMembers(userId, groupId);
@@ -159,13 +164,27 @@ public class GroupMemberServiceTest {
         assertThat(members.members()).hasSize(2);
         assertThat(members.members().get(0).userId()).isEqualTo(user1.getId());
         assertThat(members.members().get(0).userName()).isEqualTo(user1.getName());
+        assertThat(members.members().get(0).imageUrl()).isEqualTo(user1.getImageUrl());
         assertThat(members.members().get(0).role()).isEqualTo(GroupRole.LEADER);
+        assertThat(members.members().get(0).joinedAt()).isEqualTo(joinedAt.toLocalDate());
 
         assertThat(members.members().get(1).userId()).isEqualTo(user2.getId());
         assertThat(members.members().get(1).userName()).isEqualTo(user2.getName());
         assertThat(members.members().get(1).role()).isEqualTo(GroupRole.MEMBER);
+        assertThat(members.members().get(1).status()).isEqualTo(GroupStatus.APPROVED);
+
+        verify(groupMemberRepository).findMembersVisibleTo(userId, groupId);
+    }
+
+    @Test
+    @DisplayName("그룹 멤버가 아니면 멤버 목록을 조회할 수 없다")
+    void getGroupMembersByOutsider() {
+        // given
+        given(groupMemberRepository.findMembersVisibleTo(userId, groupId))
+            .willReturn(List.of());
 
-        verify(groupMemberRepository).findByUserIdAndGroupId(userId, groupId);
-        verify(groupMemberRepository).findAllByGroupId(groupId);
+        // when & then
+        assertThatThrownBy(() -> groupMemberService.getGroupMembers(userId, groupId))
+            .isInstanceOf(EntityNotFoundException.class);
     }
 }
@@ -0,0 +1,112 @@
+package supernova.whokie.point_account.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import supernova.whokie.global.exception.InvalidEntityException;
+import supernova.whokie.point_account.infrastructure.repository.PointAccountRepository;
+import supernova.whokie.user.Gender;
+import supernova.whokie.user.Role;
+import supernova.whokie.user.Users;
+import supernova.whokie.user.infrastructure.repository.UsersRepository;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@TestPropertySource(properties = {
+    "spring.profiles.active=default",
+    "jwt.secret=abcd",
+    "spring.sql.init.mode=never"
+})
+class PointAccountServiceTest {
+
+    @Autowired
+    private PointAccountService pointAccountService;
+    @Autowired
+    private UsersRepository usersRepository;
+    @Autowired
+    private PointAccountRepository pointAccountRepository;
+
+    @Test
+    @DisplayName("동시에 차감해도 잔액을 넘겨서 차감되지 않는다")
+    void concurrentDebitTest() throws Exception {
+        // given
+        Long userId = saveUser(30).getId();
+        int threads = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                try {
+                    pointAccountService.debit(userId, 10);
+                    return true;
+                } catch (InvalidEntityException e) {
+                    return false;
+                }
+            }));
+        }
+        start.countDown();
+        int succeeded = 0;
+        for (Future<Boolean> result : results) {
+            succeeded += result.get() ? 1 : 0;
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(succeeded).isEqualTo(3);
+        assertThat(pointAccountRepository.findById(userId).orElseThrow().getBalance()).isZero();
+    }
+
+    @Test
+    @DisplayName("잔액이 부족하면 예외가 발생하고 잔액은 그대로다")
+    void debitNotEnoughPointTest() {
+        // given
+        Long userId = saveUser(5).getId();
+
+        // when & then
+        assertThatThrownBy(() -> pointAccountService.debit(userId, 10))
+            .isInstanceOf(InvalidEntityException.class);
+        assertThat(pointAccountService.getBalance(userId)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("계정이 없으면 users.point 값으로 계정을 만든 뒤 적립한다")
+    void creditSeedsAccountTest() {
+        // given
+        Long userId = saveUser(7).getId();
+
+        // when
+        pointAccountService.credit(userId, 3);
+
+        // then
+        assertThat(pointAccountService.getBalance(userId)).isEqualTo(10);
+        assertThat(usersRepository.findById(userId).orElseThrow().getPoint()).isEqualTo(7);
+    }
+
+    private Users saveUser(int point) {
+        return usersRepository.save(Users.builder()
+            .name("test")
+            .email("point@example.com")
+            .point(point)
+            .age(20)
+            .kakaoId(1L)
+            .gender(Gender.M)
+            .role(Role.USER)
+            .build());
+    }
+}
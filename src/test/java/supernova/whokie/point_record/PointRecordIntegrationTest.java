@@ -0,0 +1,98 @@
+package supernova.whokie.point_record;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import supernova.whokie.point_record.infrastructure.repository.PointRecordRepository;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+    "spring.profiles.active=default",
+    "jwt.secret=abcd",
+    "spring.sql.init.mode=never",
+    "statement-budget-strict=true"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class PointRecordIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private PointRecordRepository pointRecordRepository;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 1; i <= 5; i++) {
+            PointRecordOption option = i % 2 == 0 ? PointRecordOption.USED : PointRecordOption.CHARGED;
+            pointRecordRepository.save(PointRecord.create(1L, i * 10, i, option, "record " + i));
+        }
+        pointRecordRepository.save(PointRecord.create(2L, 10, 1, PointRecordOption.CHARGED, "other user"));
+    }
+
+    @Test
+    @DisplayName("커서로 다음 포인트 기록을 이어서 가져오는지 테스트")
+    void getPointRecordScrollTest() throws Exception {
+        String firstPage = mockMvc.perform(get("/api/point/record/scroll")
+                .param("option", "ALL")
+                .param("size", "3")
+                .requestAttr("userId", "1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(3))
+            .andExpect(jsonPath("$.content[0].id").value(1))
+            .andExpect(jsonPath("$.hasNext").value(true))
+            .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+            .andReturn().getResponse().getContentAsString();
+
+        String nextCursor = JsonPath.read(firstPage, "$.nextCursor");
+
+        mockMvc.perform(get("/api/point/record/scroll")
+                .param("option", "ALL")
+                .param("size", "3")
+                .param("cursor", nextCursor)
+                .requestAttr("userId", "1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(2))
+            .andExpect(jsonPath("$.content[0].id").value(4))
+            .andExpect(jsonPath("$.hasNext").value(false))
+            .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("옵션을 지정하면 해당 옵션의 포인트 기록만 이어서 가져오는지 테스트")
+    void getPointRecordScrollByOptionTest() throws Exception {
+        String firstPage = mockMvc.perform(get("/api/point/record/scroll")
+                .param("option", "CHARGED")
+                .param("size", "2")
+                .requestAttr("userId", "1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(2))
+            .andExpect(jsonPath("$.content[0].id").value(1))
+            .andExpect(jsonPath("$.content[1].id").value(3))
+            .andExpect(jsonPath("$.hasNext").value(true))
+            .andReturn().getResponse().getContentAsString();
+
+        String nextCursor = JsonPath.read(firstPage, "$.nextCursor");
+
+        mockMvc.perform(get("/api/point/record/scroll")
+                .param("option", "CHARGED")
+                .param("size", "2")
+                .param("cursor", nextCursor)
+                .requestAttr("userId", "1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(1))
+            .andExpect(jsonPath("$.content[0].id").value(5))
+            .andExpect(jsonPath("$.hasNext").value(false));
+    }
+}
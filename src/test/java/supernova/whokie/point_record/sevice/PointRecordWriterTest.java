@@ -0,0 +1,119 @@
+package supernova.whokie.point_record.sevice;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import supernova.whokie.point_record.PointRecordOption;
+import supernova.whokie.point_record.event.PointRecordEventDto;
+import supernova.whokie.point_record.infrastructure.repository.PointRecordBulkRepository;
+import supernova.whokie.point_record.sevice.dto.PointRecordCommand;
+
+@ExtendWith(MockitoExtension.class)
+class PointRecordWriterTest {
+
+    @Mock
+    private PointRecordBulkRepository pointRecordBulkRepository;
+
+    @Test
+    @DisplayName("종료 시 큐에 남은 적립 내역을 모두 기록한다")
+    void flushOnStopTest() {
+        // given
+        List<PointRecordCommand.Earn> saved = new ArrayList<>();
+        willAnswer(invocation -> saved.addAll(invocation.getArgument(0)))
+            .given(pointRecordBulkRepository).saveAll(anyList());
+        PointRecordWriter writer = new PointRecordWriter(pointRecordBulkRepository, 100, 2, 60_000L, 100L);
+        writer.start();
+
+        // when
+        for (long userId = 1; userId <= 5; userId++) {
+            writer.enqueue(earn(userId));
+        }
+        writer.stop();
+
+        // then
+        assertThat(saved).extracting(PointRecordCommand.Earn::userId)
+            .containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L);
+        assertThat(writer.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("종료된 뒤 들어온 내역은 호출한 스레드에서 바로 기록한다")
+    void writeAfterStopTest() {
+        // given
+        PointRecordWriter writer = new PointRecordWriter(pointRecordBulkRepository, 1, 10, 60_000L, 1L);
+        writer.stop();
+
+        // when
+        writer.enqueue(earn(1L));
+
+        // then
+        then(pointRecordBulkRepository).should(times(1)).saveAll(anyList());
+        assertThat(writer.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("DB 장애로 기록하지 못한 내역은 버리지 않고 보관했다가 다시 기록한다")
+    void retryFailedTest() {
+        // given
+        CannotGetJdbcConnectionException down = new CannotGetJdbcConnectionException("down");
+        List<PointRecordCommand.Earn> saved = new ArrayList<>();
+        willThrow(down, down, down, down)
+            .willAnswer(invocation -> saved.addAll(invocation.getArgument(0)))
+            .given(pointRecordBulkRepository).saveAll(anyList());
+        PointRecordWriter writer = new PointRecordWriter(pointRecordBulkRepository, 1, 10, 60_000L, 1L);
+        writer.stop();
+        writer.enqueue(earn(1L));
+        int failedBeforeRetry = writer.failedCount();
+
+        // when
+        writer.stop();
+
+        // then
+        assertThat(failedBeforeRetry).isEqualTo(1);
+        assertThat(saved).extracting(PointRecordCommand.Earn::userId).containsExactly(1L);
+        assertThat(writer.failedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("batch가 실패하면 한 행씩 기록하고, 제약 위반인 행만 빼고 나머지는 기록한다")
+    void rejectBrokenRowTest() {
+        // given
+        List<PointRecordCommand.Earn> saved = new ArrayList<>();
+        willAnswer(invocation -> {
+            List<PointRecordCommand.Earn> records = invocation.getArgument(0);
+            if (records.stream().anyMatch(record -> record.userId() == 2L)) {
+                throw new DataIntegrityViolationException("broken");
+            }
+            return saved.addAll(records);
+        }).given(pointRecordBulkRepository).saveAll(anyList());
+        PointRecordWriter writer = new PointRecordWriter(pointRecordBulkRepository, 100, 10, 60_000L, 100L);
+        writer.start();
+
+        // when
+        for (long userId = 1; userId <= 3; userId++) {
+            writer.enqueue(earn(userId));
+        }
+        writer.stop();
+
+        // then
+        assertThat(saved).extracting(PointRecordCommand.Earn::userId).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(writer.failedCount()).isZero();
+    }
+
+    private PointRecordEventDto.Earn earn(Long userId) {
+        return PointRecordEventDto.Earn.toDto(userId, 5, 0, PointRecordOption.CHARGED, "적립");
+    }
+}
@@ -0,0 +1,92 @@
+package supernova.whokie.profile.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import supernova.whokie.profile.Profile;
+import supernova.whokie.profile.infrastructure.ProfileRepository;
+import supernova.whokie.profile.service.dto.ProfileModel;
+import supernova.whokie.user.Gender;
+import supernova.whokie.user.Role;
+import supernova.whokie.user.Users;
+
+class ProfileInfoCacheTest {
+
+    private ProfileRepository profileRepository;
+    private ProfileInfoCache profileInfoCache;
+
+    @BeforeEach
+    void setUp() {
+        profileRepository = mock(ProfileRepository.class);
+        profileInfoCache = new ProfileInfoCache(profileRepository, 100, 300);
+
+        Users user = Users.builder()
+            .id(1L)
+            .name("test")
+            .email("test@gmail.com")
+            .point(100)
+            .age(25)
+            .kakaoId(1L)
+            .gender(Gender.M)
+            .role(Role.USER)
+            .build();
+        Profile profile = Profile.builder()
+            .id(1L)
+            .users(user)
+            .todayVisited(2)
+            .totalVisited(12)
+            .description("test")
+            .backgroundImageUrl("test")
+            .build();
+        given(profileRepository.findByUsersId(1L)).willReturn(Optional.of(profile));
+    }
+
+    @Test
+    @DisplayName("두 번째 조회부터는 DB를 조회하지 않는다")
+    void getTest() {
+        // when
+        profileInfoCache.get(1L);
+        ProfileModel.Info actual = profileInfoCache.get(1L);
+
+        // then
+        assertThat(actual.totalVisited()).isEqualTo(12);
+        then(profileRepository).should(times(1)).findByUsersId(1L);
+        assertThat(profileInfoCache.stats().get("profileInfos").hitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("방문 수가 flush된 프로필은 스냅샷을 비워 DB에 반영된 값을 다시 읽는다")
+    void evictAllTest() {
+        // given
+        profileInfoCache.get(1L);
+
+        // when
+        profileInfoCache.evictAll(List.of(1L, 2L));
+        profileInfoCache.get(1L);
+
+        // then
+        then(profileRepository).should(times(2)).findByUsersId(1L);
+    }
+
+    @Test
+    @DisplayName("무효화하면 다시 DB에서 읽는다")
+    void evictTest() {
+        // given
+        profileInfoCache.get(1L);
+
+        // when
+        profileInfoCache.evict(1L);
+        profileInfoCache.get(1L);
+
+        // then
+        then(profileRepository).should(times(2)).findByUsersId(1L);
+    }
+}
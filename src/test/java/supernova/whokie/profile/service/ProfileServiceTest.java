@@ -1,10 +1,10 @@
 package supernova.whokie.profile.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 
-import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,8 +12,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import supernova.whokie.global.exception.EntityNotFoundException;
 import supernova.whokie.profile.Profile;
-import supernova.whokie.profile.infrastructure.ProfileRepository;
+import supernova.whokie.profile.infrastructure.cache.ProfileInfoCache;
 import supernova.whokie.profile.service.dto.ProfileModel;
 import supernova.whokie.user.Gender;
 import supernova.whokie.user.Role;
@@ -23,7 +24,10 @@ import supernova.whokie.user.Users;
 public class ProfileServiceTest {
 
     @Mock
-    private ProfileRepository profileRepository;
+    private ProfileInfoCache profileInfoCache;
+
+    @Mock
+    private ProfileVisitCounter profileVisitCounter;
 
     @InjectMocks
     private ProfileService profileService;
@@ -58,7 +62,7 @@ public class ProfileServiceTest {
     @DisplayName("프로필 조회")
     void getProfile() {
         // given
-        given(profileRepository.findByUsersId(user.getId())).willReturn(Optional.of(profile));
+        given(profileInfoCache.get(user.getId())).willReturn(ProfileModel.Info.from(profile));
 
         // when
         ProfileModel.Info result = profileService.getProfile(1L);
@@ -71,6 +75,45 @@ public class ProfileServiceTest {
         assertThat(result.totalVisited()).isEqualTo(12);
         assertThat(result.backgroundImageUrl()).isEqualTo("test");
 
-        then(profileRepository).should().findByUsersId(user.getId());
+        then(profileInfoCache).should().get(user.getId());
+    }
+
+    @Test
+    @DisplayName("프로필 조회 시 아직 반영되지 않은 방문 수를 더한다")
+    void getProfileWithPendingVisits() {
+        // given
+        given(profileInfoCache.get(user.getId())).willReturn(ProfileModel.Info.from(profile));
+        given(profileVisitCounter.pendingVisits(user.getId())).willReturn(3L);
+
+        // when
+        ProfileModel.Info result = profileService.getProfile(1L);
+
+        // then
+        assertThat(result.todayVisited()).isEqualTo(5);
+        assertThat(result.totalVisited()).isEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("프로필 방문 기록")
+    void visit() {
+        // given
+        given(profileInfoCache.get(user.getId())).willReturn(ProfileModel.Info.from(profile));
+
+        // when
+        profileService.visit(1L);
+
+        // then
+        then(profileVisitCounter).should().record(1L);
+    }
+
+    @Test
+    @DisplayName("없는 프로필의 방문은 기록하지 않는다")
+    void visitMissingProfile() {
+        // given
+        given(profileInfoCache.get(2L)).willThrow(new EntityNotFoundException("User not found"));
+
+        // when & then
+        assertThatThrownBy(() -> profileService.visit(2L)).isInstanceOf(EntityNotFoundException.class);
+        then(profileVisitCounter).shouldHaveNoInteractions();
     }
 }
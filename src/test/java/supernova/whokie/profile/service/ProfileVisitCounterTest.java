@@ -0,0 +1,80 @@
+package supernova.whokie.profile.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import supernova.whokie.profile.infrastructure.ProfileVisitRepository;
+import supernova.whokie.profile.infrastructure.cache.ProfileInfoCache;
+
+@ExtendWith(MockitoExtension.class)
+class ProfileVisitCounterTest {
+
+    @Mock
+    private ProfileVisitRepository profileVisitRepository;
+
+    @Mock
+    private ProfileInfoCache profileInfoCache;
+
+    @InjectMocks
+    private ProfileVisitCounter profileVisitCounter;
+
+    @Test
+    @DisplayName("반영한 방문 수는 카운터에서 지운다")
+    void flushPrunesDrainedCounterTest() {
+        // given
+        profileVisitCounter.record(1L);
+        profileVisitCounter.record(1L);
+
+        // when
+        profileVisitCounter.flush();
+        profileVisitCounter.flush();
+        profileVisitCounter.flush();
+
+        // then
+        then(profileVisitRepository).should().increaseAll(Map.of(1L, 2L));
+        then(profileVisitRepository).shouldHaveNoMoreInteractions();
+        assertThat(profileVisitCounter.pendingVisits(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("방문이 끊겨 맵에서 뺀 뒤에 다시 방문하면 새로 센다")
+    void recordAfterPruneTest() {
+        // given
+        profileVisitCounter.record(1L);
+        profileVisitCounter.flush();
+        profileVisitCounter.flush();
+
+        // when
+        profileVisitCounter.record(1L);
+        profileVisitCounter.flush();
+
+        // then
+        then(profileVisitRepository).should(times(2)).increaseAll(Map.of(1L, 1L));
+        assertThat(profileVisitCounter.pendingVisits(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 방문 수는 새 방문과 합쳐 다시 시도한다")
+    void flushKeepsFailedDeltasTest() {
+        // given
+        profileVisitCounter.record(1L);
+        willThrow(new IllegalStateException("down")).given(profileVisitRepository).increaseAll(anyMap());
+
+        // when
+        profileVisitCounter.flush();
+        profileVisitCounter.record(1L);
+
+        // then
+        assertThat(profileVisitCounter.pendingVisits(1L)).isEqualTo(2L);
+    }
+}
@@ -0,0 +1,104 @@
+package supernova.whokie.profile_question;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import supernova.whokie.profile_question.infrastructure.repository.ProfileQuestionRepository;
+import supernova.whokie.user.Gender;
+import supernova.whokie.user.Role;
+import supernova.whokie.user.Users;
+import supernova.whokie.user.infrastructure.repository.UserRepository;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+    "spring.profiles.active=default",
+    "jwt.secret=abcd",
+    "spring.sql.init.mode=never",
+    "statement-budget-strict=true"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class ProfileQuestionIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ProfileQuestionRepository profileQuestionRepository;
+
+    @BeforeEach
+    void setUp() {
+        Users owner = userRepository.save(user(1));
+        Users other = userRepository.save(user(2));
+
+        for (int i = 1; i <= 3; i++) {
+            profileQuestionRepository.save(ProfileQuestion.builder()
+                .content("Profile Question " + i)
+                .user(owner)
+                .profileQuestionStatus(true)
+                .build());
+        }
+        profileQuestionRepository.save(ProfileQuestion.builder()
+            .content("Other Question")
+            .user(other)
+            .profileQuestionStatus(true)
+            .build());
+    }
+
+    @Test
+    @DisplayName("커서로 다음 프로필 질문을 이어서 가져오는지 테스트")
+    void getProfileQuestionScrollTest() throws Exception {
+        String firstPage = mockMvc.perform(get("/api/profile/question/1/scroll")
+                .param("size", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(2))
+            .andExpect(jsonPath("$.content[0].profileQuestionId").value(1))
+            .andExpect(jsonPath("$.hasNext").value(true))
+            .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+            .andReturn().getResponse().getContentAsString();
+
+        String nextCursor = JsonPath.read(firstPage, "$.nextCursor");
+
+        mockMvc.perform(get("/api/profile/question/1/scroll")
+                .param("size", "2")
+                .param("cursor", nextCursor))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(1))
+            .andExpect(jsonPath("$.content[0].profileQuestionId").value(3))
+            .andExpect(jsonPath("$.hasNext").value(false))
+            .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 400을 반환한다")
+    void getProfileQuestionScrollInvalidCursorTest() throws Exception {
+        mockMvc.perform(get("/api/profile/question/1/scroll")
+                .param("cursor", "not-a-cursor"))
+            .andExpect(status().isBadRequest());
+    }
+
+    private static Users user(int index) {
+        return Users.builder()
+            .name("User " + index)
+            .email("user" + index + "@example.com")
+            .point(0)
+            .age(20)
+            .kakaoId(1000L + index)
+            .gender(Gender.M)
+            .imageUrl("image" + index)
+            .role(Role.USER)
+            .build();
+    }
+}
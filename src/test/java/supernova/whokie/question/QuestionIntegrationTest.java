@@ -1,5 +1,6 @@
 package supernova.whokie.question;
 
+import com.jayway.jsonpath.JsonPath;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -35,7 +36,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @TestPropertySource(properties = {
         "spring.profiles.active=default",
         "jwt.secret=abcd",
-        "spring.sql.init.mode=never"
+        "spring.sql.init.mode=never",
+        "statement-budget-strict=true"
 })
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
 
@@ -287,4 +289,41 @@ class QuestionIntegrationTest {
                 });
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("커서로 다음 질문 목록을 이어서 가져오는지 테스트")
+    void getGroupQuestionScrollTest() throws Exception {
+        String firstPage = mockMvc.perform(get("/api/group/1/question/scroll")
+                        .param("status", "true")
+                        .param("size", "4")
+                        .requestAttr("userId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(4))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andReturn().getResponse().getContentAsString();
+
+        String nextCursor = JsonPath.read(firstPage, "$.nextCursor");
+
+        mockMvc.perform(get("/api/group/1/question/scroll")
+                        .param("status", "true")
+                        .param("size", "8")
+                        .param("cursor", nextCursor)
+                        .requestAttr("userId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(6))
+                .andExpect(jsonPath("$.content[0].questionId").value(5))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist())
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 400을 반환한다")
+    void getGroupQuestionScrollInvalidCursorTest() throws Exception {
+        mockMvc.perform(get("/api/group/1/question/scroll")
+                        .param("status", "true")
+                        .param("cursor", "not-a-cursor")
+                        .requestAttr("userId", "1"))
+                .andExpect(status().isBadRequest());
+    }
+}
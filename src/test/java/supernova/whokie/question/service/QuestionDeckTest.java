@@ -0,0 +1,49 @@
+package supernova.whokie.question.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class QuestionDeckTest {
+
+    @Test
+    @DisplayName("내용이 없는 질문은 건너뛰고 질문마다 후보를 따로 담는다")
+    void ofTest() {
+        // given
+        AtomicLong candidate = new AtomicLong();
+        Map<Long, String> contents = Map.of(1L, "Question 1", 3L, "Question 3");
+
+        // when
+        QuestionDeck deck = QuestionDeck.of(List.of(1L, 2L, 3L), contents,
+            () -> List.of(candidate.incrementAndGet(), candidate.incrementAndGet()));
+
+        // then
+        assertThat(deck.size()).isEqualTo(2);
+        assertThat(deck.questionId(1)).isEqualTo(3L);
+        assertThat(deck.content(1)).isEqualTo("Question 3");
+        assertThat(deck.candidatesOf(0)).containsExactly(1L, 2L);
+        assertThat(deck.candidatesOf(1)).containsExactly(3L, 4L);
+    }
+
+    @Test
+    @DisplayName("답한 질문은 peek에서 빠지고, 남은 질문이 limit보다 적으면 다시 뽑아야 한다")
+    void consumeTest() {
+        // given
+        QuestionDeck deck = QuestionDeck.of(List.of(1L, 2L, 3L, 4L),
+            Map.of(1L, "1", 2L, "2", 3L, "3", 4L, "4"), List::of);
+
+        // when
+        QuestionDeck consumed = deck.consume(2L).consume(2L).consume(99L);
+
+        // then
+        assertThat(consumed.remaining()).isEqualTo(3);
+        assertThat(consumed.peek(2)).containsExactly(0, 2);
+        assertThat(consumed.isLow(3)).isFalse();
+        assertThat(consumed.consume(1L).isLow(3)).isTrue();
+        assertThat(deck.remaining()).isEqualTo(4);
+    }
+}
@@ -0,0 +1,86 @@
+package supernova.whokie.question.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import supernova.whokie.question.repository.QuestionRepository;
+
+@ExtendWith(MockitoExtension.class)
+class QuestionIdIndexTest {
+
+    @Mock
+    private QuestionRepository questionRepository;
+
+    @InjectMocks
+    private QuestionIdIndex questionIdIndex;
+
+    @Test
+    @DisplayName("중복 없이 limit 개수만큼 질문 id를 뽑는다")
+    void sampleTest() {
+        // given
+        given(questionRepository.findAllIdsNotRejected()).willReturn(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L, 12L));
+
+        // when
+        List<Long> actual = questionIdIndex.sample(10);
+
+        // then
+        assertThat(actual).hasSize(10).doesNotHaveDuplicates();
+        assertThat(actual).allMatch(id -> id >= 1L && id <= 12L);
+    }
+
+    @Test
+    @DisplayName("질문 수가 limit보다 적으면 전체를 반환하고, DB는 한 번만 읽는다")
+    void sampleSmallerThanLimitTest() {
+        // given
+        given(questionRepository.findAllIdsNotRejected()).willReturn(List.of(1L, 2L, 3L));
+
+        // when
+        List<Long> first = questionIdIndex.sample(10);
+        List<Long> second = questionIdIndex.sample(10);
+
+        // then
+        assertThat(first).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(second).containsExactlyInAnyOrder(1L, 2L, 3L);
+        then(questionRepository).should(times(1)).findAllIdsNotRejected();
+    }
+
+    @Test
+    @DisplayName("새 질문 id가 중복 없이 인덱스에 추가된다")
+    void addTest() {
+        // given
+        given(questionRepository.findAllIdsNotRejected()).willReturn(List.of(1L, 2L));
+        questionIdIndex.size();
+
+        // when
+        questionIdIndex.add(3L);
+        questionIdIndex.add(3L);
+
+        // then
+        assertThat(questionIdIndex.size()).isEqualTo(3);
+        assertThat(questionIdIndex.sample(10)).containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("거절된 질문 id는 인덱스에서 빠진다")
+    void removeTest() {
+        // given
+        given(questionRepository.findAllIdsNotRejected()).willReturn(List.of(1L, 2L, 3L));
+        questionIdIndex.size();
+
+        // when
+        questionIdIndex.remove(2L);
+        questionIdIndex.remove(99L);
+
+        // then
+        assertThat(questionIdIndex.sample(10)).containsExactlyInAnyOrder(1L, 3L);
+    }
+}
@@ -10,10 +10,13 @@ import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.TestPropertySource;
 import supernova.whokie.friend.Friend;
 import supernova.whokie.friend.infrastructure.repository.FriendRepository;
+import supernova.whokie.global.exception.EntityNotFoundException;
 import supernova.whokie.group_member.GroupMember;
 import supernova.whokie.group_member.GroupRole;
 import supernova.whokie.group_member.GroupStatus;
+import supernova.whokie.group_member.infrastructure.repository.GroupMemberProjection;
 import supernova.whokie.group_member.infrastructure.repository.GroupMemberRepository;
+import supernova.whokie.group_member.service.dto.GroupMemberModel;
 import supernova.whokie.question.Question;
 import supernova.whokie.question.QuestionStatus;
 import supernova.whokie.question.service.dto.QuestionCommand;
@@ -24,15 +27,22 @@ import supernova.whokie.question.service.dto.QuestionModel.GroupQuestion;
 import supernova.whokie.user.Users;
 import supernova.whokie.user.infrastructure.repository.UserRepository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -60,6 +70,9 @@ class QuestionServiceTest {
     @Autowired
     private QuestionService questionService;
 
+    @Autowired
+    private QuestionDeckStore questionDeckStore;
+
     @Test
     @DisplayName("질문과 친구 목록을 정상적으로 가져오는지 테스트")
     void getCommonQuestionTest() {
@@ -104,8 +117,12 @@ class QuestionServiceTest {
 
         // when
         when(userRepository.findById(anyLong())).thenReturn(Optional.of(dummyUser));
-        when(questionRepository.findRandomQuestions(any(Pageable.class))).thenReturn(dummyQuestions);
-        when(friendRepository.findRandomFriendsByHostUser(eq(dummyUser.getId()), any(Pageable.class))).thenReturn(dummyFriends);
+        when(questionRepository.findAllIdsNotRejected()).thenReturn(dummyQuestions.stream().map(Question::getId).toList());
+        when(questionRepository.findAllById(anyList())).thenReturn(dummyQuestions);
+        when(friendRepository.findFriendUserIdsByHostUserId(dummyUser.getId()))
+                .thenReturn(dummyFriends.stream().map(Friend::getFriendUserId).toList());
+        when(userRepository.findByIdIn(anyList()))
+                .thenReturn(dummyFriends.stream().map(Friend::getFriendUser).toList());
 
         List<QuestionModel.CommonQuestion> commonQuestionList = questionService.getCommonQuestion(dummyUser.getId());
         QuestionResponse.CommonQuestions commonQuestions = QuestionResponse.CommonQuestions.from(commonQuestionList);
@@ -114,7 +131,92 @@ class QuestionServiceTest {
         // then
         assertEquals(10, commonQuestions.questions().size());
         assertEquals(5, commonQuestions.questions().get(0).users().size());
+        verify(userRepository, times(1)).findByIdIn(anyList());
+    }
+
+    @Test
+    @DisplayName("덱이 남아 있으면 유저와 질문을 다시 조회하지 않고 답한 질문은 건너뛴다")
+    void getCommonQuestionFromDeckTest() {
+        // given
+        Users dummyUser = Users.builder().id(1L).build();
+        List<Question> dummyQuestions = LongStream.rangeClosed(1, 30)
+                .mapToObj(id -> Question.builder().id(id).content("Question " + id).build())
+                .toList();
+
+        when(userRepository.findById(anyLong())).thenReturn(Optional.of(dummyUser));
+        when(userRepository.existsById(anyLong())).thenReturn(true);
+        when(questionRepository.findAllIdsNotRejected()).thenReturn(dummyQuestions.stream().map(Question::getId).toList());
+        when(questionRepository.findAllById(anyList())).thenReturn(dummyQuestions);
+        when(friendRepository.findFriendUserIdsByHostUserId(dummyUser.getId())).thenReturn(List.of(2L, 3L));
+        when(userRepository.findByIdIn(anyList())).thenReturn(List.of(
+                Users.builder().id(2L).name("Friend 1").imageUrl("url1").build(),
+                Users.builder().id(3L).name("Friend 2").imageUrl("url2").build()));
+
+        List<QuestionModel.CommonQuestion> first = questionService.getCommonQuestion(dummyUser.getId());
+        Long answeredId = first.get(0).questionId();
+        questionDeckStore.consume(dummyUser.getId(), answeredId);
+
+        // when
+        List<QuestionModel.CommonQuestion> second = questionService.getCommonQuestion(dummyUser.getId());
+
+        // then
+        assertThat(second).hasSize(10)
+                .extracting(QuestionModel.CommonQuestion::questionId)
+                .doesNotContain(answeredId)
+                .containsAll(first.subList(1, first.size()).stream().map(QuestionModel.CommonQuestion::questionId).toList());
+        verify(userRepository, times(1)).findById(anyLong());
+        verify(questionRepository, times(1)).findAllById(anyList());
+    }
+
+    @Test
+    @DisplayName("거절된 질문은 남아 있는 덱에서도 바로 빠진다")
+    void getCommonQuestionDiscardedTest() {
+        // given
+        Users dummyUser = Users.builder().id(1L).build();
+        List<Question> dummyQuestions = LongStream.rangeClosed(1, 30)
+                .mapToObj(id -> Question.builder().id(id).content("Question " + id).build())
+                .toList();
+
+        when(userRepository.findById(anyLong())).thenReturn(Optional.of(dummyUser));
+        when(userRepository.existsById(anyLong())).thenReturn(true);
+        when(questionRepository.findAllIdsNotRejected()).thenReturn(dummyQuestions.stream().map(Question::getId).toList());
+        when(questionRepository.findAllById(anyList())).thenReturn(dummyQuestions);
+        when(friendRepository.findFriendUserIdsByHostUserId(dummyUser.getId())).thenReturn(List.of(2L));
+        when(userRepository.findByIdIn(anyList())).thenReturn(List.of(
+                Users.builder().id(2L).name("Friend 1").imageUrl("url1").build()));
 
+        Long rejectedId = questionService.getCommonQuestion(dummyUser.getId()).get(0).questionId();
+
+        // when
+        questionDeckStore.discardQuestion(rejectedId);
+        List<QuestionModel.CommonQuestion> actual = questionService.getCommonQuestion(dummyUser.getId());
+
+        // then
+        assertThat(actual).extracting(QuestionModel.CommonQuestion::questionId).doesNotContain(rejectedId);
+        verify(questionRepository, times(1)).findAllById(anyList());
+    }
+
+    @Test
+    @DisplayName("덱이 남아 있어도 유저가 없으면 예외를 던지고 덱을 버린다")
+    void getCommonQuestionMissingUserTest() {
+        // given
+        Users dummyUser = Users.builder().id(1L).build();
+        List<Question> dummyQuestions = LongStream.rangeClosed(1, 30)
+                .mapToObj(id -> Question.builder().id(id).content("Question " + id).build())
+                .toList();
+
+        when(userRepository.findById(anyLong())).thenReturn(Optional.of(dummyUser));
+        when(questionRepository.findAllIdsNotRejected()).thenReturn(dummyQuestions.stream().map(Question::getId).toList());
+        when(questionRepository.findAllById(anyList())).thenReturn(dummyQuestions);
+        when(friendRepository.findFriendUserIdsByHostUserId(dummyUser.getId())).thenReturn(List.of());
+        questionService.getCommonQuestion(dummyUser.getId());
+
+        when(userRepository.existsById(dummyUser.getId())).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> questionService.getCommonQuestion(dummyUser.getId()))
+                .isInstanceOf(EntityNotFoundException.class);
+        assertThat(questionDeckStore.getIfFresh(dummyUser.getId())).isNull();
     }
 
     @Test
@@ -134,18 +236,19 @@ class QuestionServiceTest {
             Question.builder().id(10L).content("Question 10").questionStatus(QuestionStatus.APPROVED).groupId(1L).build()
         );
 
-        List<GroupMember> dummyGroupMembers = List.of(
-            GroupMember.builder().id(1L).user(Users.builder().id(1L).build()).build(),
-            GroupMember.builder().id(2L).user(Users.builder().id(2L).build()).build(),
-            GroupMember.builder().id(3L).user(Users.builder().id(3L).build()).build(),
-            GroupMember.builder().id(4L).user(Users.builder().id(4L).build()).build(),
-            GroupMember.builder().id(5L).user(Users.builder().id(5L).build()).build()
-        );
+        GroupMember self = GroupMember.builder().id(1L).user(Users.builder().id(1L).build()).build();
 
         // when
-        when(groupMemberRepository.findByUserIdAndGroupId(anyLong(), anyLong())).thenReturn(Optional.of(dummyGroupMembers.get(0)));
+        when(groupMemberRepository.findByUserIdAndGroupId(anyLong(), anyLong())).thenReturn(Optional.of(self));
         when(questionRepository.findRandomGroupQuestions(anyLong(), any(Pageable.class))).thenReturn(dummyQuestions);
-        when(groupMemberRepository.getRandomGroupMember(eq(1L), anyLong(), any(Pageable.class))).thenReturn(dummyGroupMembers);
+        when(groupMemberRepository.findUserIdsByGroupId(1L)).thenReturn(List.of(1L, 2L, 3L, 4L, 5L, 6L));
+        when(groupMemberRepository.findMembersByGroupIdAndUserIdIn(eq(1L), anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> userIds = invocation.getArgument(1);
+            return userIds.stream()
+                .map(id -> new GroupMemberProjection(id, id, "member" + id, "image", GroupRole.MEMBER,
+                    GroupStatus.APPROVED, LocalDateTime.now()))
+                .toList();
+        });
 
         List<GroupQuestion> groupQuestionList = questionService.getGroupQuestions(1L, 1L);
         QuestionResponse.GroupQuestions groupQuestions = QuestionResponse.GroupQuestions.from(groupQuestionList);
@@ -153,6 +256,10 @@ class QuestionServiceTest {
         // then
         assertEquals(10, groupQuestions.questions().size());
         assertEquals(5, groupQuestions.questions().get(0).users().size());
+        groupQuestionList.forEach(question -> assertThat(question.groupMembers())
+            .extracting(GroupMemberModel.Option::userId)
+            .doesNotContain(1L));
+        verify(groupMemberRepository, times(1)).findMembersByGroupIdAndUserIdIn(eq(1L), anyCollection());
     }
 
     @Test
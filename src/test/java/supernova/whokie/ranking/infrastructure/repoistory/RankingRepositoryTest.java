@@ -33,8 +33,8 @@ class RankingRepositoryTest {
     private EntityManager entityManager;
 
     @Test
-    @DisplayName("userId로 랭킹 조회")
-    void findByUsers_IdOrderByCountDesc() {
+    @DisplayName("userId로 랭킹과 그룹을 함께 조회")
+    void findAllByUserIdFetchJoin() {
         // given
         Users user = Users.builder().id(1L).name("host").email("host").point(1).age(1).kakaoId(1L).gender(Gender.F).imageUrl("image").role(Role.USER).build();
         usersRepository.save(user);
@@ -49,12 +49,12 @@ class RankingRepositoryTest {
         entityManager.clear();
 
         // when
-        List<Ranking> actual = rankingRepository.findTop3ByUsers_IdOrderByCountDesc(user.getId());
+        List<Ranking> actual = rankingRepository.findAllByUserIdFetchJoin(user.getId());
 
         // then
-        assertThat(actual).hasSize(3);
-        assertThat(actual.get(0).getCount()).isEqualTo(ranking1.getCount());
-        assertThat(actual.get(1).getCount()).isEqualTo(ranking3.getCount());
-        assertThat(actual.get(2).getCount()).isEqualTo(ranking4.getCount());
+        assertThat(actual).hasSize(4);
+        assertThat(actual).extracting(Ranking::getCount)
+            .containsExactlyInAnyOrder(100, 70, 90, 80);
+        assertThat(actual).allSatisfy(ranking -> assertThat(ranking.getGroups().getId()).isEqualTo(group.getId()));
     }
 }
\ No newline at end of file
@@ -0,0 +1,100 @@
+package supernova.whokie.ranking.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import supernova.whokie.ranking.event.RankingEventDto;
+import supernova.whokie.ranking.infrastructure.repoistory.RankingBulkRepository;
+import supernova.whokie.ranking.infrastructure.repoistory.RankingRepository;
+import supernova.whokie.ranking.service.dto.RankingDelta;
+import supernova.whokie.ranking.service.dto.RankingModel;
+
+@ExtendWith(MockitoExtension.class)
+class RankingAggregatorTest {
+
+    @Mock
+    private RankingRepository rankingRepository;
+
+    @Mock
+    private RankingBulkRepository rankingBulkRepository;
+
+    private RankingAggregator rankingAggregator;
+
+    private final RankingDelta broken = new RankingDelta(1L, null, null, 10L, "broken", 1);
+    private final RankingDelta healthy = new RankingDelta(2L, null, null, 20L, "healthy", 1);
+
+    @BeforeEach
+    void setUp() {
+        rankingAggregator = new RankingAggregator(rankingRepository, rankingBulkRepository, 100);
+        rankingAggregator.record(RankingEventDto.Pick.toDto(1L, null, null, 10L, "broken"));
+        rankingAggregator.record(RankingEventDto.Pick.toDto(2L, null, null, 20L, "healthy"));
+        lenient().doThrow(new DataIntegrityViolationException("batch")).when(rankingBulkRepository).upsertAll(anyCollection());
+    }
+
+    @Test
+    @DisplayName("배치가 실패하면 한 행씩 반영하고, 매번 실패할 행은 다시 시도하지 않는다")
+    void flushRejectsBrokenRowTest() {
+        // given
+        willThrow(new DataIntegrityViolationException("row")).given(rankingBulkRepository).upsert(broken);
+
+        // when
+        rankingAggregator.flush();
+        rankingAggregator.flush();
+
+        // then
+        then(rankingBulkRepository).should(times(1)).upsertAll(anyCollection());
+        then(rankingBulkRepository).should(times(1)).upsert(broken);
+        then(rankingBulkRepository).should(times(1)).upsert(healthy);
+    }
+
+    @Test
+    @DisplayName("DB 연결 실패처럼 일시적인 실패는 남은 행과 함께 다음 flush에서 다시 시도한다")
+    void flushRetriesTransientFailureTest() {
+        // given
+        willThrow(new CannotGetJdbcConnectionException("down")).given(rankingBulkRepository).upsert(any());
+
+        rankingAggregator.flush();
+        willDoNothing().given(rankingBulkRepository).upsertAll(anyCollection());
+
+        // when
+        rankingAggregator.flush();
+
+        // then
+        then(rankingBulkRepository).should(times(1)).upsert(any());
+        then(rankingBulkRepository).should(times(2))
+            .upsertAll(argThat(rows -> rows.containsAll(List.of(broken, healthy))));
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 사용자의 랭킹은 DB 결과에 그 사용자의 증가분만 더해 읽는다")
+    void getTopRanksMergesOwnPendingTest() {
+        // given
+        given(rankingRepository.findAllByUserIdFetchJoin(1L)).willReturn(List.of());
+
+        // when
+        List<RankingModel.Rank> actual = rankingAggregator.getTopRanks(1L);
+
+        // then
+        assertThat(actual).hasSize(1);
+        assertThat(actual.get(0).question()).isEqualTo("broken");
+        assertThat(actual.get(0).count()).isEqualTo(1);
+        then(rankingRepository).should(times(1)).findAllByUserIdFetchJoin(1L);
+    }
+}
@@ -11,6 +11,7 @@ import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.TestPropertySource;
 import supernova.whokie.group.Groups;
 import supernova.whokie.ranking.Ranking;
+import supernova.whokie.ranking.event.RankingEventDto;
 import supernova.whokie.ranking.infrastructure.repoistory.RankingRepository;
 import supernova.whokie.ranking.service.dto.RankingModel;
 
@@ -18,6 +19,8 @@ import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -32,6 +35,8 @@ class RankingServiceTest {
 
     @Autowired
     private RankingService rankingService;
+    @Autowired
+    private RankingAggregator rankingAggregator;
     @MockBean
     private RankingRepository rankingRepository;
 
@@ -40,11 +45,12 @@ class RankingServiceTest {
     void getUserRankingTest() {
         // given
         Groups group = Groups.builder().build();
-        Ranking ranking1 = Ranking.builder().count(100).groups(group).build();
-        Ranking ranking2 = Ranking.builder().count(90).groups(group).build();
-        Ranking ranking3 = Ranking.builder().count(80).groups(group).build();
-        List<Ranking> entities = List.of(ranking1, ranking2, ranking3);
-        given(rankingRepository.findTop3ByUsers_IdOrderByCountDesc(any()))
+        Ranking ranking1 = Ranking.builder().questionId(1L).count(100).groups(group).build();
+        Ranking ranking2 = Ranking.builder().questionId(2L).count(90).groups(group).build();
+        Ranking ranking3 = Ranking.builder().questionId(3L).count(80).groups(group).build();
+        Ranking ranking4 = Ranking.builder().questionId(4L).count(70).groups(group).build();
+        List<Ranking> entities = List.of(ranking4, ranking2, ranking1, ranking3);
+        given(rankingRepository.findAllByUserIdFetchJoin(any()))
             .willReturn(entities);
 
         // when
@@ -56,4 +62,32 @@ class RankingServiceTest {
         assertThat(actual.get(1).count()).isEqualTo(ranking2.getCount());
         assertThat(actual.get(2).count()).isEqualTo(ranking3.getCount());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("답변이 들어오면 DB 재조회 없이 랭킹이 갱신된다")
+    void getUserRankingAfterPickTest() {
+        // given
+        Groups group = Groups.builder().groupName("group").build();
+        Ranking ranking1 = Ranking.builder().questionId(1L).question("q1").count(3).groups(group).build();
+        Ranking ranking2 = Ranking.builder().questionId(2L).question("q2").count(2).groups(group).build();
+        Ranking ranking3 = Ranking.builder().questionId(3L).question("q3").count(1).groups(group).build();
+        given(rankingRepository.findAllByUserIdFetchJoin(any()))
+            .willReturn(List.of(ranking1, ranking2, ranking3));
+        rankingService.getUserRanking(1L);
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            rankingAggregator.record(RankingEventDto.Pick.toDto(1L, null, null, 4L, "q4"));
+        }
+        List<RankingModel.Rank> actual = rankingService.getUserRanking(1L);
+
+        // then
+        assertThat(actual).hasSize(3);
+        assertThat(actual.get(0).question()).isEqualTo("q4");
+        assertThat(actual.get(0).count()).isEqualTo(4);
+        assertThat(actual.get(0).rank()).isEqualTo(1);
+        assertThat(actual.get(1).question()).isEqualTo("q1");
+        assertThat(actual.get(2).question()).isEqualTo("q2");
+        then(rankingRepository).should(times(1)).findAllByUserIdFetchJoin(any());
+    }
+}
@@ -25,4 +25,21 @@ class UsersTest {
         assertThat(actual1).isTrue();
         assertThat(actual2).isFalse();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("카카오 프로필이 바뀐 경우에만 이름과 이미지를 갱신한다")
+    void updateKakaoProfileTest() {
+        // given
+        Users user = Users.builder().id(1L).name("name").imageUrl("image").build();
+
+        // when
+        boolean unchanged = user.updateKakaoProfile("name", "image");
+        boolean changed = user.updateKakaoProfile("new name", "new image");
+
+        // then
+        assertThat(unchanged).isFalse();
+        assertThat(changed).isTrue();
+        assertThat(user.getName()).isEqualTo("new name");
+        assertThat(user.getImageUrl()).isEqualTo("new image");
+    }
+}
@@ -8,15 +8,15 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import supernova.whokie.global.entity.BaseTimeEntity;
+import supernova.whokie.point_account.service.PointAccountService;
 import supernova.whokie.user.Gender;
 import supernova.whokie.user.Role;
 import supernova.whokie.user.Users;
-import supernova.whokie.user.infrastructure.repository.UserRepository;
+import supernova.whokie.user.infrastructure.cache.UserInfoCache;
 import supernova.whokie.user.service.dto.UserModel;
 
 import java.lang.reflect.Field;
 import java.time.LocalDateTime;
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -30,7 +30,10 @@ class UserServiceTest {
     private UserService userService;
 
     @Mock
-    UserRepository userRepository;
+    UserInfoCache userInfoCache;
+
+    @Mock
+    PointAccountService pointAccountService;
 
     private Users user;
 
@@ -53,14 +56,14 @@ class UserServiceTest {
     @DisplayName("내 포인트 조회")
     void getPoint() {
         // given
-        given(userRepository.findById(1L)).willReturn(Optional.of(user));
+        given(pointAccountService.getBalance(1L)).willReturn(1000);
 
         // when
         UserModel.Point point = userService.getPoint(1L);
 
         // then
         assertEquals(1000, point.amount());
-        then(userRepository).should().findById(1L);
+        then(pointAccountService).should().getBalance(1L);
     }
 
     @Test
@@ -72,7 +75,7 @@ class UserServiceTest {
         createdAtField.setAccessible(true);
         createdAtField.set(user, LocalDateTime.now());
 
-        given(userRepository.findById(1L)).willReturn(Optional.of(user));
+        given(userInfoCache.get(1L)).willReturn(UserModel.Info.from(user));
 
         // when
         UserModel.Info userInfo = userService.getUserInfo(1L);
@@ -84,6 +87,6 @@ class UserServiceTest {
         assertThat(userInfo.gender()).isEqualTo(user.getGender());
         assertThat(userInfo.role()).isEqualTo(user.getRole());
 
-        then(userRepository).should().findById(1L);
+        then(userInfoCache).should().get(1L);
     }
 }